@@ -0,0 +1,119 @@
+package DatoJuego;
+
+import java.awt.geom.Area;
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.GeneralPath;
+import java.awt.geom.Rectangle2D;
+
+
+
+/**
+ * The collision checks of {@link LevelSimulation} as they were written before {@link Collision} replaced them, intersecting {@link Area}s of the player and the obstacles.
+ * Kept as the reference that {@link CollisionCheck} compares the analytic checks against, and that {@link CollisionBenchmark} measures them against.
+ */
+public class AreaCollision {
+
+	private static final double playerWidth = LevelSimulation.playerWidth;
+
+	/** Returns whether a player at the given position is touching a triangle or running into the side of a solid block, like {@link LevelSimulation#shouldDie()}. */
+	public static boolean shouldDie(Level level, double playerX, double playerY) {
+		Area playerArea = new Area(new Ellipse2D.Double(playerX, playerY, playerWidth, playerWidth));
+
+		for (int obstacleX = (int) playerX; obstacleX <= (int) playerX + 1; obstacleX++) {
+			for (int obstacleY = (int)(playerY + playerWidth); obstacleY >= 0; obstacleY--) {
+				try {
+					GeneralPath triangleShape = null;
+					if (level.obstacles[obstacleX][obstacleY] == Obstacle.TRIANGLE) {
+						triangleShape = new GeneralPath();
+						triangleShape.moveTo(obstacleX, obstacleY);
+						triangleShape.lineTo(obstacleX + 0.5, obstacleY + 1);
+						triangleShape.lineTo(obstacleX + 1, obstacleY);
+					} else if (level.obstacles[obstacleX][obstacleY] == Obstacle.TRIANGLE_UPSIDE_DOWN) {
+						triangleShape = new GeneralPath();
+						triangleShape.moveTo(obstacleX, obstacleY + 1);
+						triangleShape.lineTo(obstacleX + 0.5, obstacleY);
+						triangleShape.lineTo(obstacleX + 1, obstacleY + 1);
+					} else if (level.obstacles[obstacleX][obstacleY] == Obstacle.TRIANGLE_LEFT) {
+						triangleShape = new GeneralPath();
+						triangleShape.moveTo(obstacleX, obstacleY + 0.5);
+						triangleShape.lineTo(obstacleX + 1, obstacleY);
+						triangleShape.lineTo(obstacleX + 1, obstacleY + 1);
+					}
+					if (triangleShape != null) {
+						triangleShape.closePath();
+						Area triangleArea = new Area(triangleShape);
+						triangleArea.intersect(playerArea);
+						if (!triangleArea.isEmpty()) {
+							return true;
+						}
+					}
+				} catch (ArrayIndexOutOfBoundsException e) {}
+			}
+
+			if (obstacleX > playerX) {
+				for (int obstacleY = (int)(playerY + playerWidth); obstacleY >= (int) playerY; obstacleY--) {
+					try {
+						if (level.obstacles[obstacleX][obstacleY] != null && level.obstacles[obstacleX][obstacleY].isSolid()) {
+							Area rightSidePlayerArea = new Area(new Rectangle2D.Double(playerX + playerWidth * 0.8, playerY, playerWidth * 0.2, playerWidth));
+							rightSidePlayerArea.intersect(playerArea);
+							if (rightSidePlayerArea.intersects(new Rectangle2D.Double(obstacleX, obstacleY, 1, 1))) {
+								return true;
+							}
+						}
+					} catch (ArrayIndexOutOfBoundsException e) {}
+				}
+			}
+		}
+
+		return false;
+	}
+
+	/** Returns whether a player at the given position is touching a yellow pad, like {@link LevelSimulation#isTouchingYellowPad()}. */
+	public static boolean isTouchingYellowPad(Level level, double playerX, double playerY) {
+		Area playerArea = new Area(new Ellipse2D.Double(playerX, playerY, playerWidth, playerWidth));
+
+		for (int obstacleX = (int) playerX; obstacleX <= (int) playerX + 1; obstacleX++) {
+			for (int obstacleY = (int)(playerY + playerWidth); obstacleY >= 0; obstacleY--) {
+				try {
+					if (level.obstacles[obstacleX][obstacleY] == Obstacle.YELLOW_PAD) {
+						Area padArea = new Area(new Rectangle2D.Double(obstacleX, obstacleY, 1, 0.25));
+						padArea.intersect(playerArea);
+						if (!padArea.isEmpty()) {
+							return true;
+						}
+					}
+					if (level.obstacles[obstacleX][obstacleY] == Obstacle.YELLOW_PAD_UPSIDE_DOWN) {
+						Area padArea = new Area(new Rectangle2D.Double(obstacleX, obstacleY + 0.75, 1, 0.25));
+						padArea.intersect(playerArea);
+						if (!padArea.isEmpty()) {
+							return true;
+						}
+					}
+				} catch (ArrayIndexOutOfBoundsException e) {}
+			}
+		}
+
+		return false;
+	}
+
+	/** Returns whether a player at the given position is touching a yellow ring, like {@link LevelSimulation#isTouchingYellowRing()}. */
+	public static boolean isTouchingYellowRing(Level level, double playerX, double playerY) {
+		Area playerArea = new Area(new Ellipse2D.Double(playerX, playerY, playerWidth, playerWidth));
+
+		for (int obstacleX = (int) playerX; obstacleX <= (int) playerX + 1; obstacleX++) {
+			for (int obstacleY = (int)(playerY + playerWidth); obstacleY >= 0; obstacleY--) {
+				try {
+					if (level.obstacles[obstacleX][obstacleY] == Obstacle.YELLOW_RING) {
+						Area ringArea = new Area(new Ellipse2D.Double(obstacleX - 0.25, obstacleY - 0.25, 1.5, 1.5));
+						ringArea.intersect(playerArea);
+						if (!ringArea.isEmpty()) {
+							return true;
+						}
+					}
+				} catch (ArrayIndexOutOfBoundsException e) {}
+			}
+		}
+
+		return false;
+	}
+}
@@ -0,0 +1,60 @@
+package DatoJuego;
+
+import java.awt.Color;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+
+/**
+ * Measures {@link BatchSimulation} running 1024 attempts at a level, each with its own jump pattern, until every attempt has died or the level's length has been simulated.
+ * Compare the score with {@link LevelSimulationBenchmark} times 1024 to see how much the batch gains from splitting the runs between cores.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BatchSimulationBenchmark {
+
+	private static final int runs = 1024;
+
+	@Param({"dimensionalvortex.txt", "spatialplane.txt", "temporalnebula.txt"})
+	public String levelFile;
+
+	private Level level;
+	private int ticks;
+	private BatchInput input;
+
+	@Setup
+	public void setup() {
+		level = new Level(levelFile, Color.BLACK, levelFile, null, 0);
+		level.load();
+		ticks = (int) ((level.width + 15) / LevelSimulation.xSpeed * LevelSimulation.ticksPerSecond);
+		input = new BatchInput() {
+			@Override
+			public boolean isJumping(LevelSimulation simulation, int run, long tick) {
+				return tick / (20 + run % 61) % 4 == 0; // Hold the jump button for a quarter of the time, with a different period for each run
+			}
+		};
+	}
+
+	@Benchmark
+	public long simulateBatch() {
+		BatchSimulation batch = new BatchSimulation(level, runs);
+		batch.simulate(input, ticks);
+		return batch.getEndTick(runs - 1);
+	}
+}
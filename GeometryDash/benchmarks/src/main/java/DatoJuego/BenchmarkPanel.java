@@ -0,0 +1,67 @@
+package DatoJuego;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+
+
+/**
+ * A root panel with a fixed size in pixels that draws into an offscreen image, so drawables can be measured without a {@link Game} window.
+ * Unlike a {@link Scene} it does not need a game to add drawables to.
+ */
+public class BenchmarkPanel extends Panel {
+
+	private final int width, height;
+	private final BufferedImage target;
+
+	public BenchmarkPanel(int width, int height) {
+		this.width = width;
+		this.height = height;
+		target = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB_PRE);
+	}
+
+	@Override
+	public Drawable add(Drawable d) {
+		drawables.add(d);
+		d.setParentPanel(this);
+		return d;
+	}
+
+	@Override
+	public boolean hasParentPanel() {
+		return true;
+	}
+
+	@Override
+	public int pixelWidth() {
+		return width;
+	}
+
+	@Override
+	public int pixelHeight() {
+		return height;
+	}
+
+	@Override
+	public void pauseGame() {}
+
+	@Override
+	public void resumeGame() {}
+
+	@Override
+	public void togglePaused() {}
+
+	@Override
+	public boolean isPaused() {
+		return false;
+	}
+
+	/** Draws the panel into its offscreen image, the same way {@link Game} draws the current scene into the window, and returns the image. */
+	public BufferedImage drawFrame() {
+		Graphics2D g = target.createGraphics();
+		g.clearRect(0, 0, width, height);
+		draw(g);
+		g.dispose();
+		return target;
+	}
+}
@@ -0,0 +1,128 @@
+package DatoJuego;
+
+import java.awt.Color;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+
+/**
+ * Measures the collision checks of {@link LevelSimulation} at a fixed set of random player positions across a level.
+ * Positions are kept close to the ground, where most obstacles are. Scores are per check.
+ * The {@code area} benchmarks run the {@link AreaCollision} checks that the current ones replaced at the same positions, for comparison.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CollisionBenchmark {
+
+	private static final int positionCount = 4096;
+
+	private Level level;
+	private LevelSimulation simulation;
+	private final double[] xs = new double[positionCount];
+	private final double[] ys = new double[positionCount];
+
+	@Setup
+	public void setup() {
+		level = new Level("Dimensional Vortex", Color.BLACK, "dimensionalvortex.txt", null, 0);
+		level.load();
+		simulation = new LevelSimulation(level);
+
+		Random random = new Random(42);
+		for (int i = 0; i < positionCount; i++) {
+			xs[i] = random.nextDouble() * level.width;
+			ys[i] = random.nextDouble() * 4;
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(positionCount)
+	public int shouldDie() {
+		int hits = 0;
+		for (int i = 0; i < positionCount; i++) {
+			simulation.setPlayerPosition(xs[i], ys[i]);
+			if (simulation.shouldDie()) {
+				hits++;
+			}
+		}
+		return hits;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(positionCount)
+	public int isTouchingYellowPad() {
+		int hits = 0;
+		for (int i = 0; i < positionCount; i++) {
+			simulation.setPlayerPosition(xs[i], ys[i]);
+			if (simulation.isTouchingYellowPad()) {
+				hits++;
+			}
+		}
+		return hits;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(positionCount)
+	public int isTouchingYellowRing() {
+		int hits = 0;
+		for (int i = 0; i < positionCount; i++) {
+			simulation.setPlayerPosition(xs[i], ys[i]);
+			if (simulation.isTouchingYellowRing()) {
+				hits++;
+			}
+		}
+		return hits;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(positionCount)
+	public int areaShouldDie() {
+		int hits = 0;
+		for (int i = 0; i < positionCount; i++) {
+			if (AreaCollision.shouldDie(level, xs[i], ys[i])) {
+				hits++;
+			}
+		}
+		return hits;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(positionCount)
+	public int areaIsTouchingYellowPad() {
+		int hits = 0;
+		for (int i = 0; i < positionCount; i++) {
+			if (AreaCollision.isTouchingYellowPad(level, xs[i], ys[i])) {
+				hits++;
+			}
+		}
+		return hits;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(positionCount)
+	public int areaIsTouchingYellowRing() {
+		int hits = 0;
+		for (int i = 0; i < positionCount; i++) {
+			if (AreaCollision.isTouchingYellowRing(level, xs[i], ys[i])) {
+				hits++;
+			}
+		}
+		return hits;
+	}
+}
@@ -0,0 +1,116 @@
+package DatoJuego;
+
+import java.awt.Color;
+import java.util.Random;
+
+
+
+/**
+ * Checks that the collision checks of {@link LevelSimulation} give the same answers as the {@link java.awt.geom.Area}-based checks they replaced ({@link AreaCollision}), on every level that ships with the game.
+ * Each level is checked at random positions over the whole level, at positions just off the quarter-block edges where the shapes touch, and at every tick of a few simulated attempts.
+ * {@link java.awt.geom.Area} draws circles with curves that bulge out from the true circle by up to about 0.03% of the radius, so where the shapes are within {@link #tolerance}
+ * of touching the two checks can disagree without either being wrong. Those positions are counted separately, and only an answer that differs anywhere else is a mismatch.
+ * Exits with status 1 if there is a mismatch. Run by "mvn verify" in the benchmarks module.
+ */
+public class CollisionCheck {
+
+	private static final String[] levelFiles = {"dimensionalvortex.txt", "spatialplane.txt", "temporalnebula.txt"};
+
+	/** Positions checked in each level, half of them random and half just off an edge. */
+	private static final int positions = 100000;
+
+	/** Simulated attempts at each level, each with its own jump pattern, checked at every tick. */
+	private static final int attempts = 20;
+
+	/** How close (in blocks) the shapes have to be to touching for a difference to be put down to the curves of the Area-based checks. */
+	private static final double tolerance = 0.001;
+
+	private static int mismatches = 0, nearEdges = 0;
+
+	/** A simulation of the level being checked, moved around to see whether the checks change answer close to a position. */
+	private static LevelSimulation probe;
+
+	public static void main(String[] args) {
+		for (String levelFile: levelFiles) {
+			Level level = new Level(levelFile, Color.BLACK, levelFile, null, 0);
+			level.load();
+			LevelSimulation simulation = new LevelSimulation(level);
+			probe = new LevelSimulation(level);
+			Random random = new Random(1);
+			int hits = 0, checked = 0;
+
+			for (int i = 0; i < positions; i++) {
+				double x = random.nextDouble() * (level.width + 4) - 2;
+				double y = random.nextDouble() * (level.height + 1) - 0.5;
+				if (i % 2 == 0) {
+					// Move the position to within a thousandth of a block of a quarter-block edge, where rounding differences would show
+					x = Math.round(x * 4) / 4.0 + (random.nextDouble() - 0.5) * 0.001;
+					y = Math.round(y * 4) / 4.0 + (random.nextDouble() - 0.5) * 0.001;
+				}
+				simulation.setPlayerPosition(x, y);
+				hits += compare(level, simulation, x, y);
+				checked++;
+			}
+
+			int ticks = (int) ((level.width + 15) / LevelSimulation.xSpeed * LevelSimulation.ticksPerSecond);
+			for (int attempt = 0; attempt < attempts; attempt++) {
+				LevelSimulation run = new LevelSimulation(level);
+				Random pattern = new Random(attempt);
+				int period = 20 + pattern.nextInt(200), hold = 1 + pattern.nextInt(period);
+				for (int tick = 0; tick < ticks; tick++) {
+					run.setJumping(tick % period < hold);
+					hits += compare(level, run, run.getPlayerX(), run.getPlayerY());
+					checked++;
+					run.step();
+				}
+			}
+
+			System.out.println(levelFile + ": " + checked + " positions checked, " + hits + " collisions found, " + nearEdges + " differences within " + tolerance + " blocks of touching so far, " + mismatches + " mismatches so far");
+		}
+
+		if (mismatches > 0) {
+			System.out.println("The collision checks do not match the Area-based checks");
+		}
+		System.exit(mismatches > 0 ? 1 : 0);
+	}
+
+	/**
+	 * Compares the three checks at the simulation's current position with the Area-based checks at the same position, printing the first few differences.
+	 * @return The number of checks that found a collision
+	 */
+	private static int compare(Level level, LevelSimulation simulation, double x, double y) {
+		boolean[] analytic = {simulation.shouldDie(), simulation.isTouchingYellowPad(), simulation.isTouchingYellowRing()};
+		boolean[] area = {AreaCollision.shouldDie(level, x, y), AreaCollision.isTouchingYellowPad(level, x, y), AreaCollision.isTouchingYellowRing(level, x, y)};
+		String[] names = {"shouldDie", "isTouchingYellowPad", "isTouchingYellowRing"};
+		int hits = 0;
+		for (int i = 0; i < analytic.length; i++) {
+			if (area[i]) {
+				hits++;
+			}
+			if (analytic[i] != area[i]) {
+				if (isNearEdge(i, x, y, area[i])) {
+					nearEdges++;
+					continue;
+				}
+				mismatches++;
+				if (mismatches <= 10) {
+					System.out.println("  " + names[i] + " at (" + x + ", " + y + "): " + analytic[i] + ", the Area-based check gives " + area[i]);
+				}
+			}
+		}
+		return hits;
+	}
+
+	/** Returns whether moving the player by {@link #tolerance} in some direction makes check number {@code check} give the answer the Area-based check gave. */
+	private static boolean isNearEdge(int check, double x, double y, boolean areaAnswer) {
+		double[][] offsets = {{tolerance, 0}, {-tolerance, 0}, {0, tolerance}, {0, -tolerance}};
+		for (double[] offset: offsets) {
+			probe.setPlayerPosition(x + offset[0], y + offset[1]);
+			boolean answer = check == 0 ? probe.shouldDie() : check == 1 ? probe.isTouchingYellowPad() : probe.isTouchingYellowRing();
+			if (answer == areaAnswer) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,54 @@
+package DatoJuego;
+
+import java.lang.management.ManagementFactory;
+
+import com.sun.management.ThreadMXBean;
+
+
+
+/**
+ * Checks that drawing a level with the {@link PlayLevel} HUD does not allocate once the game is running, by drawing the scene of
+ * {@link PlayLevelDrawBenchmark#drawScene()} many times and counting the bytes the drawing thread allocated with {@link ThreadMXBean#getThreadAllocatedBytes(long)}.
+ * The frames are drawn a few thousand times first so the JIT has compiled the drawing code, since interpreted code allocates where compiled code does not.
+ * Exits with status 1 if any frame allocated. Run by "mvn verify" in the benchmarks module.
+ */
+public class DrawAllocationCheck {
+
+	/** Frames drawn before measuring, so the drawing code is compiled. */
+	private static final int warmupFrames = 5000;
+
+	/** Frames drawn while counting the allocated bytes. */
+	private static final int measuredFrames = 1000;
+
+	public static void main(String[] args) {
+		ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+		long thread = Thread.currentThread().getId();
+		boolean allocated = false;
+
+		for (String resolution: new String[] {"1280x720", "1920x1080"}) {
+			PlayLevelDrawBenchmark scene = new PlayLevelDrawBenchmark();
+			scene.resolution = resolution;
+			scene.setup();
+			for (int i = 0; i < warmupFrames; i++) {
+				scene.drawScene();
+			}
+
+			long before = threads.getThreadAllocatedBytes(thread);
+			for (int i = 0; i < measuredFrames; i++) {
+				scene.drawScene();
+			}
+			long bytes = threads.getThreadAllocatedBytes(thread) - before;
+			scene.tearDown();
+
+			System.out.println(resolution + ": " + bytes + " bytes allocated over " + measuredFrames + " frames");
+			if (bytes > 0) {
+				allocated = true;
+			}
+		}
+
+		if (allocated) {
+			System.out.println("Drawing the scene allocated memory");
+		}
+		System.exit(allocated ? 1 : 0); // The image regenerator's threads would otherwise keep the check running
+	}
+}
@@ -0,0 +1,62 @@
+package DatoJuego;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+
+/**
+ * Measures fitting text into its maximum width and height, which {@link DrawableText} does every time its text changes
+ * (for example the percentage shown while playing a level).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class DrawableTextBenchmark {
+
+	private DrawableOutlinedText maxHeightText, maxWidthText;
+	private int value = 0;
+
+	@Setup
+	public void setup() {
+		BenchmarkPanel panel = new BenchmarkPanel(1920, 1080);
+		Font titleFont = Util.loadFontFromFile(getClass(), "Pusab.ttf", 100);
+
+		maxHeightText = new DrawableOutlinedText(0.5, 0.02, "0%", titleFont.deriveFont(60f), Color.white, Color.black, 1f, HorizontalAlign.LEFT, VerticalAlign.CENTER);
+		maxHeightText.setMaxHeight(0.03);
+		panel.add(maxHeightText);
+
+		maxWidthText = new DrawableOutlinedText(0.5, 0.4, "Attempt 0", titleFont.deriveFont(100f), Color.white, Color.black, 1f, HorizontalAlign.CENTER, VerticalAlign.CENTER);
+		maxWidthText.setMaxWidth(0.2);
+		panel.add(maxWidthText);
+	}
+
+	@Benchmark
+	public DrawableText fitMaxHeight() {
+		value = (value + 1) % 101;
+		maxHeightText.setText(value + "%");
+		return maxHeightText;
+	}
+
+	@Benchmark
+	public DrawableText fitMaxWidth() {
+		value = (value + 1) % 1000;
+		maxWidthText.setText("Attempt " + value);
+		return maxWidthText;
+	}
+}
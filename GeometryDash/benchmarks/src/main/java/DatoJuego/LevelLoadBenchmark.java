@@ -0,0 +1,39 @@
+package DatoJuego;
+
+import java.awt.Color;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+
+/**
+ * Measures {@link Level#load()} (reading the level file and choosing the shape of every square) for each level that ships with the game.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LevelLoadBenchmark {
+
+	@Param({"dimensionalvortex.txt", "spatialplane.txt", "temporalnebula.txt"})
+	public String levelFile;
+
+	@Benchmark
+	public Level load() {
+		Level level = new Level(levelFile, Color.BLACK, levelFile, null, 0);
+		level.load();
+		return level;
+	}
+}
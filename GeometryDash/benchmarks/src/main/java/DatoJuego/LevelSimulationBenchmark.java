@@ -0,0 +1,54 @@
+package DatoJuego;
+
+import java.awt.Color;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+
+/**
+ * Measures the physics that {@link LevelView#update(double)} runs every tick, over as many ticks as it takes to scroll through a whole level.
+ * The input is a fixed jump pattern, so the player dies and respawns along the way like a real attempt would.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LevelSimulationBenchmark {
+
+	@Param({"dimensionalvortex.txt", "spatialplane.txt", "temporalnebula.txt"})
+	public String levelFile;
+
+	private Level level;
+	private int ticks;
+
+	@Setup
+	public void setup() {
+		level = new Level(levelFile, Color.BLACK, levelFile, null, 0);
+		level.load();
+		ticks = (int) ((level.width + 15) / LevelSimulation.xSpeed * LevelSimulation.ticksPerSecond);
+	}
+
+	@Benchmark
+	public double fullLevelRun() {
+		LevelSimulation simulation = new LevelSimulation(level);
+		for (int tick = 0; tick < ticks; tick++) {
+			simulation.setJumping(tick / 30 % 4 == 0); // Hold the jump button for 30 ticks out of every 120
+			simulation.step();
+		}
+		return simulation.getPlayerX();
+	}
+}
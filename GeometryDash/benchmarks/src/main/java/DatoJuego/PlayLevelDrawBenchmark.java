@@ -0,0 +1,91 @@
+package DatoJuego;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+
+/**
+ * Measures drawing one frame of a level into an offscreen image, with the same drawables that {@link PlayLevel} shows while playing
+ * (the level view, attempt counter, help text, progress bar and percentage). A {@link PlayLevel} itself needs a game window,
+ * so the drawables are added to a {@link BenchmarkPanel} instead.
+ * {@link #drawScene()} draws with one graphics object made in the setup, like {@link Game} does for a window's buffer, so with {@code -prof gc}
+ * its {@code gc.alloc.rate.norm} shows whether drawing the scene graph allocates anything. It should stay at 0 B/op.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class PlayLevelDrawBenchmark {
+
+	@Param({"1280x720", "1920x1080"})
+	public String resolution;
+
+	private BenchmarkPanel panel;
+	private Graphics2D sceneGraphics;
+
+	@Setup
+	public void setup() {
+		int width = Integer.parseInt(resolution.substring(0, resolution.indexOf('x')));
+		int height = Integer.parseInt(resolution.substring(resolution.indexOf('x') + 1));
+		panel = new BenchmarkPanel(width, height);
+
+		Level level = new Level("Dimensional Vortex", Color.BLUE, "dimensionalvortex.txt", "DimensionalVortex.wav", 0);
+		level.load();
+		panel.add(new LevelView(level));
+
+		Font titleFont = Util.loadFontFromFile(getClass(), "Pusab.ttf", 100);
+
+		DrawableNumber attemptText = new DrawableNumber(0.5, 0.25, "Attempt ", 1, "", titleFont, Color.white, Color.black, 3f, HorizontalAlign.CENTER, VerticalAlign.CENTER);
+		attemptText.setMaxHeight(0.085);
+		panel.add(attemptText);
+
+		DrawableOutlinedText helpText = new DrawableOutlinedText(0.5, 0.4, "Click or press space to jump over obstacles", titleFont.deriveFont(100f), Color.white, Color.black, 1f, HorizontalAlign.CENTER, VerticalAlign.CENTER);
+		helpText.setMaxWidth(0.75);
+		panel.add(helpText);
+
+		DrawableProgressBar progressBar = new DrawableProgressBar(0.35, 0.02, 0.3, 0.03, 0.03 * 0.65, 0.03, Color.WHITE, 2f, Color.red, new Color(0, 0, 0, 0));
+		progressBar.setValue(0.4);
+		panel.add(progressBar);
+
+		DrawableNumber percentageText = new DrawableNumber(0.655, progressBar.getCenterY(), "", 40, "%", titleFont.deriveFont(60f), Color.white, Color.black, 1f, HorizontalAlign.LEFT, VerticalAlign.CENTER);
+		percentageText.setMaxHeight(0.03);
+		panel.add(percentageText);
+		
+		sceneGraphics = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB_PRE).createGraphics();
+		panel.draw(sceneGraphics); // Draw once so the level view makes its first chunk images before measuring
+	}
+	
+	@TearDown
+	public void tearDown() {
+		sceneGraphics.dispose();
+	}
+
+	@Benchmark
+	public BufferedImage drawFrame() {
+		return panel.drawFrame();
+	}
+
+	@Benchmark
+	public void drawScene() {
+		panel.draw(sceneGraphics);
+	}
+}
@@ -0,0 +1,103 @@
+package DatoJuego;
+
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsDevice;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.awt.image.VolatileImage;
+
+
+
+/**
+ * An opaque image for large layers that are drawn several times every frame, kept in video memory when the graphics pipeline can accelerate it.
+ * The contents live in an opaque {@link BufferedImage}, which is copied into a {@link VolatileImage} that is drawn instead whenever the layer is drawn to the screen.
+ * If the video memory copy is lost (for example when the display mode changes or the computer wakes from sleep), it is copied again the next time it is drawn.
+ * Without a display, when the pipeline cannot accelerate it, or when drawing into another image, the BufferedImage is drawn directly.
+ */
+public class AcceleratedLayer {
+
+	/** How many times to try drawing the video memory copy in one frame before falling back to the BufferedImage. */
+	private static final int maxAttempts = 3;
+
+	private final BufferedImage image;
+	private VolatileImage accelerated;
+
+	/** Set once creating an accelerated copy has failed, so it is not tried again every frame. */
+	private boolean unsupported = false;
+
+	/**
+	 * Creates a layer with the contents of an image.
+	 * @param image An opaque image (see {@link Util#getOpaqueImage(int, int)}), which must not be changed afterwards
+	 */
+	public AcceleratedLayer(BufferedImage image) {
+		this.image = image;
+	}
+
+	/** Draws the layer with its top left corner at the given pixel coordinates. */
+	public void draw(Graphics2D g, int x, int y) {
+		GraphicsConfiguration gc = g.getDeviceConfiguration();
+		if (!unsupported && gc.getDevice().getType() != GraphicsDevice.TYPE_IMAGE_BUFFER) {
+			for (int attempt = 0; attempt < maxAttempts; attempt++) {
+				int status = accelerated == null ? VolatileImage.IMAGE_INCOMPATIBLE : accelerated.validate(gc);
+				if (status == VolatileImage.IMAGE_INCOMPATIBLE) {
+					if (!createAccelerated(gc)) {
+						break;
+					}
+				} else if (status == VolatileImage.IMAGE_RESTORED) {
+					copyToAccelerated();
+				}
+				g.drawImage(accelerated, x, y, null);
+				if (!accelerated.contentsLost()) {
+					return;
+				}
+			}
+		}
+		g.drawImage(image, x, y, null);
+	}
+
+	/** Replaces the video memory copy with one that works with the given configuration. Returns false if the configuration cannot accelerate it. */
+	private boolean createAccelerated(GraphicsConfiguration gc) {
+		flush();
+		VolatileImage v = gc.createCompatibleVolatileImage(image.getWidth(), image.getHeight(), Transparency.OPAQUE);
+		if (v == null || !v.getCapabilities().isAccelerated()) {
+			// A volatile image that is not in video memory is only a slower copy of the BufferedImage
+			if (v != null) {
+				v.flush();
+			}
+			unsupported = true;
+			return false;
+		}
+		accelerated = v;
+		copyToAccelerated();
+		return true;
+	}
+
+	private void copyToAccelerated() {
+		Graphics g = accelerated.createGraphics();
+		g.drawImage(image, 0, 0, null);
+		g.dispose();
+	}
+
+	/** Releases the video memory used by the layer. It is used again if the layer is drawn afterwards. */
+	public void flush() {
+		if (accelerated != null) {
+			accelerated.flush();
+			accelerated = null;
+		}
+	}
+
+	public int getWidth() {
+		return image.getWidth();
+	}
+
+	public int getHeight() {
+		return image.getHeight();
+	}
+
+	/** Returns the image that holds the contents of the layer. */
+	public BufferedImage getImage() {
+		return image;
+	}
+}
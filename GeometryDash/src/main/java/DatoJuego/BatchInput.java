@@ -0,0 +1,31 @@
+package DatoJuego;
+
+
+
+/**
+***********************************************
+@Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+@Date October 17th, 2026
+@Modified N/A
+@Description A source of input for the runs of a BatchSimulation, such as a list of jump sequences being searched or a bot being trained. It is asked once per tick for each run
+that is still going whether the jump button is held down. Runs are stepped on several threads at once, so it must be safe to call from more than one thread, for different runs.
+***********************************************
+*/
+public interface BatchInput {
+
+	/** Method Name: isJumping()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Decides whether the jump button is held down for one run during its next tick
+	 * @Parameters
+	 *      - LevelSimulation simulation: the simulation that holds the run while it is being stepped (the run's current state can be read from it to decide, but it must not be changed)
+	 *      - int run: the index of the run in the batch
+	 *      - long tick: the number of ticks the run has been simulated for so far
+	 * @Returns True if the jump button should be held down, otherwise false
+	 * Data Type: LevelSimulation, int, long, boolean
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	boolean isJumping(LevelSimulation simulation, int run, long tick);
+}
@@ -0,0 +1,358 @@
+package DatoJuego;
+
+import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+
+
+/**
+***********************************************
+@Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+@Date October 17th, 2026
+@Modified N/A
+@Description Simulates many attempts at a level at once, each with its own input, for searching jump sequences, tuning difficulty or training bots.
+The state of every run is kept in parallel arrays (position, y speed, modes, whether it has died or beaten the level), and the runs are split between the cores of the computer with fork-join.
+Each run is stepped by loading it into a LevelSimulation, stepping that with its fixed tick and storing it back, so every run moves exactly as a LevelView in deterministic mode
+(or a replay) would with the same input. A run stops on the tick it dies or beats the level. Only normal mode is simulated, and the player's rotation and the ground height,
+which only change how the level is drawn, are not kept. The level is only read, so several batches can share it.
+***********************************************
+*/
+public class BatchSimulation {
+
+	private final Level level; // The level that is being simulated
+	private final int size; // The number of runs
+	private long tick = 0; // The number of ticks the batch has been stepped for
+
+	// The state of each run, in the same form as in LevelSimulation (package-private so LevelSimulation can load and store runs)
+	final double[] playerX, playerY, ySpeed; // The position of each player in blocks and their y speed in blocks per second
+	final boolean[] triangleMode, upsideDownMode; // The mode each player is in
+	final boolean[] jumping, holding; // Whether the jump button is held down, and whether it has been held since the last jump
+	final boolean[] playingMusic; // Whether the music has started, which moves the player to the start of the level
+	final boolean[] hasDied, hasBeatLevel; // Whether each run has ended by dying or by reaching the end of the level
+	final int[] interactionCursor; // Where the pads, rings and portals near each player start in the level's list of them
+	private final long[] endTick; // The tick that each run ended on, or -1 if it is still going
+
+	/** Method Name: BatchSimulation()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Creates a batch of runs of a level, each with the player just to the left of the start of the level like a new LevelSimulation
+	 * @Parameters
+	 *      - Level level: the level to simulate (it must already be loaded)
+	 *      - int size: the number of runs
+	 * @Returns N/A
+	 * Data Type: Level, int, double, boolean, long
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	public BatchSimulation(Level level, int size) {
+		this.level = level;
+		this.size = size;
+		playerX = new double[size];
+		playerY = new double[size];
+		ySpeed = new double[size];
+		triangleMode = new boolean[size];
+		upsideDownMode = new boolean[size];
+		jumping = new boolean[size];
+		holding = new boolean[size];
+		playingMusic = new boolean[size];
+		hasDied = new boolean[size];
+		hasBeatLevel = new boolean[size];
+		interactionCursor = new int[size];
+		endTick = new long[size];
+
+		// Start every run in the same state as a new simulation
+		LevelSimulation start = new LevelSimulation(level);
+		for (int i = 0; i < size; i++) {
+			start.storeRun(this, i);
+			endTick[i] = -1;
+		}
+	}
+
+	/** Method Name: simulate()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Steps every run that is still going, one fixed tick at a time, until they have all ended or the tick limit is reached.
+	 * The runs are split into groups that are simulated in parallel as fork-join tasks (in the common pool when called from outside a fork-join pool)
+	 * @Parameters
+	 *      - BatchInput input: decides whether the jump button is held down for each run on each tick
+	 *      - int maxTicks: the largest number of ticks to simulate
+	 * @Returns The number of ticks that were simulated (less than maxTicks if every run ended first). Runs that end sooner stop on the tick they end
+	 * Data Type: BatchInput, int, long, ForkJoinTask, ForkJoinPool
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	public int simulate(final BatchInput input, final int maxTicks) {
+		if (maxTicks <= 0 || size == 0) {
+			return 0;
+		}
+		// Make a few groups per core, so the cores stay busy when some groups end early
+		int groupSize = Math.max(64, size / (ForkJoinPool.getCommonPoolParallelism() * 4));
+		int groupCount = (size + groupSize - 1) / groupSize;
+		final int[] groupTicks = new int[groupCount]; // The number of ticks each group needed
+		ArrayList<ForkJoinTask<?>> tasks = new ArrayList<ForkJoinTask<?>>();
+		for (int g = 0; g < groupCount; g++) {
+			final int group = g, start = g * groupSize, end = Math.min(size, start + groupSize);
+			tasks.add(ForkJoinTask.adapt(new Runnable() {
+				@Override
+				public void run() {
+					groupTicks[group] = simulateRuns(input, maxTicks, start, end);
+				}
+			}));
+		}
+		ForkJoinTask.invokeAll(tasks);
+		
+		int ticks = 0;
+		for (int groupTick: groupTicks) {
+			ticks = Math.max(ticks, groupTick);
+		}
+		tick += ticks;
+		return ticks;
+	}
+
+	/** Method Name: step()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Steps every run that is still going by one fixed tick
+	 * @Parameters
+	 *      - BatchInput input: decides whether the jump button is held down for each run
+	 * @Returns N/A
+	 * Data Type: BatchInput
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	public void step(BatchInput input) {
+		simulate(input, 1);
+	}
+
+	/** Method Name: simulateRuns()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Steps a range of runs for up to a number of ticks on the current thread, using one LevelSimulation for all of them. Each run is loaded once and stepped
+	 * for all of its ticks before moving on to the next, which is several times faster than loading and storing every run on every tick, and gives the same result since runs do not affect each other
+	 * @Parameters
+	 *      - BatchInput input: decides whether the jump button is held down for each run on each tick
+	 *      - int maxTicks: the largest number of ticks to simulate
+	 *      - int start: the first run in the range
+	 *      - int end: the run after the last one in the range
+	 * @Returns The most ticks that any run in the range was simulated for
+	 * Data Type: BatchInput, LevelSimulation, int, long
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	private int simulateRuns(BatchInput input, int maxTicks, int start, int end) {
+		LevelSimulation simulation = new LevelSimulation(level);
+		int most = 0;
+		for (int i = start; i < end; i++) {
+			if (hasDied[i] || hasBeatLevel[i]) {
+				continue; // This run has already ended
+			}
+			simulation.loadRun(this, i);
+			int t = 0;
+			while (t < maxTicks && !simulation.hasDied() && !simulation.hasBeatLevel()) {
+				simulation.setJumping(input.isJumping(simulation, i, tick + t));
+				simulation.step();
+				t++;
+			}
+			simulation.storeRun(this, i);
+			if (hasDied[i] || hasBeatLevel[i]) {
+				endTick[i] = tick + t;
+			}
+			most = Math.max(most, t);
+		}
+		return most;
+	}
+
+	/** Method Name: getSize()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Returns the number of runs in the batch
+	 * @Parameters N/A
+	 * @Returns The number of runs
+	 * Data Type: int
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	public int getSize() {
+		return size;
+	}
+
+	/** Method Name: getTick()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Returns how many ticks the batch has been simulated for
+	 * @Parameters N/A
+	 * @Returns The number of ticks
+	 * Data Type: long
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	public long getTick() {
+		return tick;
+	}
+
+	/** Method Name: getLevel()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Returns the level that is being simulated
+	 * @Parameters N/A
+	 * @Returns The Level object
+	 * Data Type: Level
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	public Level getLevel() {
+		return level;
+	}
+
+	/** Method Name: getPlayerX()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Returns the x coordinate of the player in a run
+	 * @Parameters
+	 *      - int run: the index of the run
+	 * @Returns The player's x coordinate in blocks (0 is the start of the level)
+	 * Data Type: double, int
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	public double getPlayerX(int run) {
+		return playerX[run];
+	}
+
+	/** Method Name: getPlayerY()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Returns the y coordinate of the player in a run
+	 * @Parameters
+	 *      - int run: the index of the run
+	 * @Returns The player's y coordinate in blocks (0 is ground level)
+	 * Data Type: double, int
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	public double getPlayerY(int run) {
+		return playerY[run];
+	}
+
+	/** Method Name: getYSpeed()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Returns the y speed of the player in a run
+	 * @Parameters
+	 *      - int run: the index of the run
+	 * @Returns The player's y speed in blocks per second
+	 * Data Type: double, int
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	public double getYSpeed(int run) {
+		return ySpeed[run];
+	}
+
+	/** Method Name: isTriangleMode()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Returns if the player in a run is in triangle mode
+	 * @Parameters
+	 *      - int run: the index of the run
+	 * @Returns True if triangle mode is enabled, otherwise false
+	 * Data Type: boolean, int
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	public boolean isTriangleMode(int run) {
+		return triangleMode[run];
+	}
+
+	/** Method Name: isUpsideDownMode()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Returns if the player in a run is in upside down mode
+	 * @Parameters
+	 *      - int run: the index of the run
+	 * @Returns True if upside down mode is enabled, otherwise false
+	 * Data Type: boolean, int
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	public boolean isUpsideDownMode(int run) {
+		return upsideDownMode[run];
+	}
+
+	/** Method Name: isAlive()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Returns if the player in a run has not died
+	 * @Parameters
+	 *      - int run: the index of the run
+	 * @Returns True if the player is alive, otherwise false
+	 * Data Type: boolean, int
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	public boolean isAlive(int run) {
+		return !hasDied[run];
+	}
+
+	/** Method Name: hasBeatLevel()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Returns if the player in a run has reached the end of the level
+	 * @Parameters
+	 *      - int run: the index of the run
+	 * @Returns True if the player has beat the level, otherwise false
+	 * Data Type: boolean, int
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	public boolean hasBeatLevel(int run) {
+		return hasBeatLevel[run];
+	}
+
+	/** Method Name: getEndTick()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Returns the tick that a run ended on, by the player dying or beating the level
+	 * @Parameters
+	 *      - int run: the index of the run
+	 * @Returns The number of ticks the run lasted, or -1 if it is still going
+	 * Data Type: long, int
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	public long getEndTick(int run) {
+		return endTick[run];
+	}
+
+	/** Method Name: getProgress()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Calculates how far through the level the player in a run is, in the same way as LevelSimulation.getPlayerProgress()
+	 * @Parameters
+	 *      - int run: the index of the run
+	 * @Returns The player's progress in the level on a scale from 0 to 1
+	 * Data Type: double, int
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	public double getProgress(int run) {
+		return Util.constrain(playerX[run] / level.width, 0, 1);
+	}
+}
@@ -0,0 +1,68 @@
+package DatoJuego;
+
+
+
+/**
+ * Exact intersection tests between circles, triangles and axis-aligned rectangles, done with arithmetic on their coordinates so that nothing is allocated.
+ * Like intersecting two {@link java.awt.geom.Area}s and checking whether the result is empty, shapes only intersect if their insides overlap:
+ * shapes that only touch along an edge or at a point do not intersect.
+ */
+public class Collision {
+
+	/**
+	 * Returns whether a circle and a triangle overlap. The corners of the triangle can be given in either winding order.
+	 * @param cx The x coordinate of the centre of the circle
+	 * @param cy The y coordinate of the centre of the circle
+	 * @param r The radius of the circle
+	 */
+	public static boolean circleIntersectsTriangle(double cx, double cy, double r, double x1, double y1, double x2, double y2, double x3, double y3) {
+		// The centre of the circle is inside the triangle if it is on the same side of all three edges
+		double d1 = cross(x1, y1, x2, y2, cx, cy);
+		double d2 = cross(x2, y2, x3, y3, cx, cy);
+		double d3 = cross(x3, y3, x1, y1, cx, cy);
+		if ((d1 > 0 && d2 > 0 && d3 > 0) || (d1 < 0 && d2 < 0 && d3 < 0)) {
+			return true;
+		}
+		// Otherwise the circle overlaps the triangle only if one of the edges passes through it
+		double r2 = r * r;
+		return segmentDistanceSq(cx, cy, x1, y1, x2, y2) < r2 || segmentDistanceSq(cx, cy, x2, y2, x3, y3) < r2 || segmentDistanceSq(cx, cy, x3, y3, x1, y1) < r2;
+	}
+
+	/**
+	 * Returns whether a circle and an axis-aligned rectangle overlap.
+	 * @param cx The x coordinate of the centre of the circle
+	 * @param cy The y coordinate of the centre of the circle
+	 * @param r The radius of the circle
+	 * @param x The smallest x coordinate of the rectangle
+	 * @param y The smallest y coordinate of the rectangle
+	 */
+	public static boolean circleIntersectsRectangle(double cx, double cy, double r, double x, double y, double width, double height) {
+		if (width <= 0 || height <= 0) {
+			return false;
+		}
+		// Find the point of the rectangle closest to the centre of the circle
+		double dx = cx - Math.max(x, Math.min(cx, x + width));
+		double dy = cy - Math.max(y, Math.min(cy, y + height));
+		return dx * dx + dy * dy < r * r;
+	}
+
+	/** Returns whether two circles overlap, given their centres and radii. */
+	public static boolean circleIntersectsCircle(double cx1, double cy1, double r1, double cx2, double cy2, double r2) {
+		double dx = cx2 - cx1, dy = cy2 - cy1, r = r1 + r2;
+		return dx * dx + dy * dy < r * r;
+	}
+
+	/** Returns twice the signed area of the triangle (a, b, p): positive if p is to the left of the line from a to b, negative if it is to the right. */
+	private static double cross(double ax, double ay, double bx, double by, double px, double py) {
+		return (bx - ax) * (py - ay) - (by - ay) * (px - ax);
+	}
+
+	/** Returns the squared distance from the point p to the closest point on the line segment from a to b. */
+	private static double segmentDistanceSq(double px, double py, double ax, double ay, double bx, double by) {
+		double abx = bx - ax, aby = by - ay;
+		double t = ((px - ax) * abx + (py - ay) * aby) / (abx * abx + aby * aby);
+		t = Math.max(0, Math.min(1, t));
+		double dx = px - (ax + t * abx), dy = py - (ay + t * aby);
+		return dx * dx + dy * dy;
+	}
+}
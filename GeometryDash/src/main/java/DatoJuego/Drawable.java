@@ -52,6 +52,22 @@ public class Drawable implements KeyListener, MouseListener {
 	/** Sets whether the image needs to be updated every frame. */
 	public void setDynamic(boolean dynamic) {
 		this.dynamic = dynamic;
+		invalidate();
+	}
+	
+	/** Returns whether the image needs to be updated every frame. */
+	public boolean isDynamic() {
+		return dynamic;
+	}
+	
+	/**
+	 * Tells the panel this drawable is in that it needs to be redrawn, because this drawable has changed, moved, or been shown or hidden.
+	 * Subclasses that change how they look without going through {@link #generateImage()} or the setters here should call this.
+	 */
+	public void invalidate() {
+		if (parentPanel != null) {
+			parentPanel.invalidate();
+		}
 	}
 	
 	public double getX() {
@@ -80,18 +96,22 @@ public class Drawable implements KeyListener, MouseListener {
 	
 	public void setX(double x) {
 		this.x = x;
+		invalidate();
 	}
 	
 	public void setY(double y) {
 		this.y = y;
+		invalidate();
 	}
 	
 	public void setWidth(double width) {
 		this.width = width;
+		invalidate();
 	}
 	
 	public void setHeight(double height) {
 		this.height = height;
+		invalidate();
 	}
 	
 	public void moveLeft(double delta) {
@@ -111,11 +131,17 @@ public class Drawable implements KeyListener, MouseListener {
 	}
 	
 	public void show() {
-		visible = true;
+		if (!visible) {
+			visible = true;
+			invalidate();
+		}
 	}
 	
 	public void hide() {
-		visible = false;
+		if (visible) {
+			visible = false;
+			invalidate();
+		}
 	}
 	
 	public boolean isVisible() {
@@ -130,7 +156,7 @@ public class Drawable implements KeyListener, MouseListener {
 	
 	public void setImage(BufferedImage image) {
 		currentImage = image;
-		setDynamic(false);
+		setDynamic(false); // Also invalidates this drawable
 	}
 	
 	public Image getImage() {
@@ -222,17 +248,37 @@ public class Drawable implements KeyListener, MouseListener {
 		}
 	}
 	
+	/** Returns the quality that the game is currently drawing at (see {@link QualityGovernor}), or {@link RenderQuality#HIGH} if this drawable is not in a game. */
+	public RenderQuality getRenderQuality() {
+		Game game = getGame();
+		return game != null ? game.getRenderQuality() : RenderQuality.HIGH;
+	}
+	
+	
+	/**
+	 * Redraws the image of this drawable, such as when it changes size or its content changes. It can be called from several threads at once (an {@link ImageRegenerator}
+	 * thread after a resize, and the update thread when a setter changes the content), so it is synchronized: the calls run one at a time, and the last one to run
+	 * sees every change made before it was called, so an image drawn from older content can never replace a newer one. Subclasses that override it must be synchronized too.
+	 */
+	protected synchronized void generateImage() {
+		// Draw into a new image before replacing the current one, so a frame drawn on another thread never sees a half drawn image
+		currentImage = renderImage();
+		invalidate();
+	}
 	
-	protected void generateImage() {
-		currentImage = Util.getEmptyImage(pixelWidth(), pixelHeight());
-		Graphics2D g = currentImage.createGraphics();
+	/** Creates a new image at this drawable's size in pixels and draws it (if it is not dynamic). Subclasses can override this to reuse an image that was drawn before. */
+	protected BufferedImage renderImage() {
+		BufferedImage image = Util.getEmptyImage(pixelWidth(), pixelHeight());
+		Graphics2D g = image.createGraphics();
 		if (!dynamic) {
     		if (backgroundColor.getAlpha() > 0) {
         		g.setColor(backgroundColor);
-        		g.fillRect(0, 0, currentImage.getWidth(), currentImage.getHeight());
+        		g.fillRect(0, 0, image.getWidth(), image.getHeight());
     		}
     		draw(g);
 		}
+		g.dispose();
+		return image;
 	}
 	
 	public int pixelX() {
@@ -302,6 +348,7 @@ public class Drawable implements KeyListener, MouseListener {
 	
 	public void setBackground(Color c) {
 		backgroundColor = c;
+		invalidate();
 	}
 	
 	public boolean isPointInFrame(double x, double y) {
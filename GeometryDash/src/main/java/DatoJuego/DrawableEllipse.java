@@ -3,7 +3,6 @@ package DatoJuego;
 import java.awt.Color;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
-import java.awt.RenderingHints;
 
 
 
@@ -24,7 +23,7 @@ public class DrawableEllipse extends Drawable {
 	
 	@Override
 	public void draw(Graphics g) {
-		((Graphics2D) g).setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+		getRenderQuality().applyHints((Graphics2D) g);
 		g.setColor(fillColor);
 		g.fillOval(0, 0, pixelWidth(), pixelHeight());
 		g.setColor(borderColor);
@@ -0,0 +1,100 @@
+package DatoJuego;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics;
+
+
+
+/**
+ * Outlined text showing a whole number between a fixed prefix and suffix, such as "Attempt 12" or "57%".
+ * The digits, minus sign, prefix and suffix are drawn once into a {@link GlyphStrip} whenever the image is generated, and the number is put together
+ * from them every frame, so {@link #setValue(int)} never formats a string, lays out text or creates an image.
+ * The font is fitted to the minimum and maximum sizes using the text as it is when the image is generated.
+ */
+public class DrawableNumber extends DrawableOutlinedText {
+
+	private static final int MINUS = 10, PREFIX = 11, SUFFIX = 12; // The indexes of the pieces of the glyph strip after the ten digits
+
+	private final String prefix, suffix;
+	private volatile int value;
+	private volatile GlyphStrip glyphs; // Replaced when the image is generated, which can happen on another thread while the number is being drawn
+
+	public DrawableNumber(double x, double y, String prefix, int value, String suffix, Font font, Color color, Color outlineColor, float outlineWidth, HorizontalAlign hAlign, VerticalAlign vAlign) {
+		super(x, y, prefix + value + suffix, font, color, outlineColor, outlineWidth, hAlign, vAlign);
+		this.prefix = prefix;
+		this.suffix = suffix;
+		this.value = value;
+	}
+
+	public int getValue() {
+		return value;
+	}
+
+	/** Changes the number shown, moving the text to keep its alignment. */
+	public void setValue(int value) {
+		if (value != this.value) {
+			this.value = value;
+			if (glyphs != null) {
+				layout();
+			}
+		}
+	}
+
+	@Override
+	public String getText() {
+		return prefix + value + suffix;
+	}
+
+	/** Fits the font and draws the pieces of the number at that size. */
+	@Override
+	public synchronized void generateImage() {
+		text = getText();
+		calculateDimensions();
+		glyphs = new GlyphStrip(font, new String[] {"0", "1", "2", "3", "4", "5", "6", "7", "8", "9", "-", prefix, suffix}, color, outlineColor, outlineWidth, getRenderQuality());
+		layout();
+	}
+
+	/** Sets the width to fit the current number and repositions the text around its anchor. Synchronized with {@link #generateImage()}, which also lays the text out. */
+	private synchronized void layout() {
+		GlyphStrip glyphs = this.glyphs;
+		width = pixelToParentWidthFraction(drawPieces(null, glyphs) + glyphs.getPadding() * 2);
+		calculateCoordinates();
+		invalidate();
+	}
+
+	@Override
+	public void drawImage(Graphics g) {
+		GlyphStrip glyphs = this.glyphs;
+		if (glyphs != null) {
+			drawPieces(g, glyphs);
+		}
+	}
+
+	/** Draws the prefix, the digits of the number and the suffix one after another with one glyph strip, or only measures them if g is null. Returns their total width in pixels. */
+	private int drawPieces(Graphics g, GlyphStrip glyphs) {
+		int x = glyphs.getPadding();
+		x = drawPiece(g, glyphs, PREFIX, x);
+		long v = value;
+		if (v < 0) {
+			x = drawPiece(g, glyphs, MINUS, x);
+			v = -v;
+		}
+		long place = 1;
+		while (place * 10 <= v) {
+			place *= 10;
+		}
+		for (; place > 0; place /= 10) {
+			x = drawPiece(g, glyphs, (int) (v / place % 10), x);
+		}
+		x = drawPiece(g, glyphs, SUFFIX, x);
+		return x - glyphs.getPadding();
+	}
+
+	private int drawPiece(Graphics g, GlyphStrip glyphs, int piece, int x) {
+		if (g != null) {
+			glyphs.draw(g, piece, x, 0);
+		}
+		return x + glyphs.getAdvance(piece);
+	}
+}
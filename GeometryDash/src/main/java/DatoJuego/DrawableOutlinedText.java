@@ -5,18 +5,22 @@ import java.awt.Color;
 import java.awt.Font;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
-import java.awt.RenderingHints;
 import java.awt.Shape;
 import java.awt.Stroke;
 import java.awt.font.FontRenderContext;
 import java.awt.font.TextLayout;
 import java.awt.geom.AffineTransform;
 import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.List;
 
 
 
 public class DrawableOutlinedText extends DrawableText {
 	
+	/** Images of outlined text that have been drawn before, shared by every outlined text, so showing the same text again at the same size does not draw it again. */
+	private static final ImageCache<List<Object>> imageCache = new ImageCache<List<Object>>(16L * 1024 * 1024);
+	
 	protected Color outlineColor;
 	protected float outlineWidth;
 	
@@ -44,11 +48,25 @@ public class DrawableOutlinedText extends DrawableText {
 		y -= pixelToParentWidthFraction((int)Math.ceil(outlineWidth));
 	}
 
+	/** Reuses the image of an outlined text with the same text, font, outline, colours, size in pixels and render quality if one has been drawn before. */
+	@Override
+	protected BufferedImage renderImage() {
+		if (isDynamic()) {
+			return super.renderImage(); // A dynamic image is drawn on every frame, so it cannot be shared
+		}
+		List<Object> key = Arrays.<Object>asList(text, font, outlineWidth, color, outlineColor, backgroundColor, pixelWidth(), pixelHeight(), getRenderQuality().antialiasing);
+		BufferedImage image = imageCache.get(key);
+		if (image == null) {
+			image = super.renderImage();
+			imageCache.put(key, image);
+		}
+		return image;
+	}
+
 	@Override
 	public void draw(Graphics g) {
 		Graphics2D g2d = (Graphics2D) g;
-		g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-		g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+		getRenderQuality().applyHints(g2d);
 
 		FontRenderContext frc = g2d.getFontRenderContext();
 		TextLayout textTl = new TextLayout(text, font, frc);
@@ -4,7 +4,6 @@ import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
-import java.awt.RenderingHints;
 import java.awt.geom.Area;
 import java.awt.geom.Rectangle2D;
 import java.awt.geom.RoundRectangle2D;
@@ -56,7 +55,7 @@ public class DrawableProgressBar extends Drawable {
 		Area innerArea = (Area) outerArea.clone();
 		innerArea.intersect(new Area(innerRect));
 		
-		g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+		getRenderQuality().applyHints(g2d);
 
 		g2d.setPaint(incompleteColor);
 		g2d.fill(outerArea);
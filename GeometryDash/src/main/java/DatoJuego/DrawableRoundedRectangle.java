@@ -34,7 +34,7 @@ public class DrawableRoundedRectangle extends Drawable {
 		Graphics2D g2d = (Graphics2D) g;
 		RoundRectangle2D rect = new RoundRectangle2D.Double(0, 0, pixelWidth(), pixelHeight(), (int)(arcw * parentPanel.pixelWidth()), (int)(arch * parentPanel.pixelHeight()));
 		
-		g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+		getRenderQuality().applyHints(g2d);
 
 		g2d.setPaint(fillColor);
 		g2d.fill(rect);
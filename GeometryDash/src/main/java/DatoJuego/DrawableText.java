@@ -7,7 +7,6 @@ import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.awt.RenderingHints;
 import java.awt.Shape;
-import java.awt.image.BufferedImage;
 
 
 
@@ -69,6 +68,7 @@ public class DrawableText extends Drawable {
 		case RIGHT:
 			this.x = anchorX - this.width; break;
 		}
+		invalidate();
 	}
 	
 	@Override
@@ -82,30 +82,35 @@ public class DrawableText extends Drawable {
 		case BOTTOM:
 			y = anchorY - this.height; break;
 		}
+		invalidate();
 	}
 	
 	@Override
 	public void moveLeft(double delta) {
 		x -= delta;
 		anchorX -= delta;
+		invalidate();
 	}
 	
 	@Override
 	public void moveRight(double delta) {
 		x += delta;
 		anchorX += delta;
+		invalidate();
 	}
 	
 	@Override
 	public void moveUp(double delta) {
 		y -= delta;
 		anchorY -= delta;
+		invalidate();
 	}
 	
 	@Override
 	public void moveDown(double delta) {
 		y += delta;
 		anchorY += delta;
+		invalidate();
 	}
 	
 	// 8
@@ -114,8 +119,7 @@ public class DrawableText extends Drawable {
 			return 0;
 		}
 		
-		BufferedImage image = Util.getEmptyImage(1, 1); // Blank image to get font metrics
-		Graphics2D ig = image.createGraphics();
+		FontMetricsCache metrics = FontMetricsCache.of(baseFont); // Measures the text at each size without deriving the font or measuring it again
 
 		int lowBound = 0;
 		int highBound = parentPanel.pixelHeight() + 5;
@@ -123,8 +127,7 @@ public class DrawableText extends Drawable {
 		
 		while (lowBound != highBound) {
 			fontSize = (lowBound + highBound) / 2;
-			font = font.deriveFont((float) fontSize);
-			width = pixelToParentWidthFraction(ig.getFontMetrics(font).stringWidth(text));
+			double width = pixelToParentWidthFraction(metrics.atSize(fontSize).stringWidth(text));
 			if (width < minWidth) {
 				lowBound = fontSize + 1;
 			} else {
@@ -140,8 +143,7 @@ public class DrawableText extends Drawable {
 			return Integer.MAX_VALUE;
 		}
 		
-		BufferedImage image = Util.getEmptyImage(1, 1); // Blank image to get font metrics
-		Graphics2D ig = image.createGraphics();
+		FontMetricsCache metrics = FontMetricsCache.of(baseFont);
 
 		int lowBound = 0;
 		int highBound = parentPanel.pixelHeight() + 5;
@@ -149,8 +151,7 @@ public class DrawableText extends Drawable {
 		
 		while (lowBound != highBound) {
 			fontSize = (int) Math.ceil((lowBound + highBound) / 2.0);
-			font = font.deriveFont((float) fontSize);
-			width = pixelToParentWidthFraction(ig.getFontMetrics(font).stringWidth(text));
+			double width = pixelToParentWidthFraction(metrics.atSize(fontSize).stringWidth(text));
 			if (width > maxWidth) {
 				highBound = fontSize - 1;
 			} else {
@@ -166,8 +167,7 @@ public class DrawableText extends Drawable {
 			return 0;
 		}
 		
-		BufferedImage image = Util.getEmptyImage(1, 1); // Blank image to get font metrics
-		Graphics2D ig = image.createGraphics();
+		FontMetricsCache metrics = FontMetricsCache.of(baseFont);
 
 		int lowBound = 0;
 		int highBound = parentPanel.pixelHeight() + 5;
@@ -175,8 +175,7 @@ public class DrawableText extends Drawable {
 		
 		while (lowBound != highBound) {
 			fontSize = (lowBound + highBound) / 2;
-			font = font.deriveFont((float) fontSize);
-			height = pixelToParentHeightFraction(ig.getFontMetrics(font).getHeight());
+			double height = pixelToParentHeightFraction(metrics.atSize(fontSize).getHeight());
 			if (height < minHeight) {
 				lowBound = fontSize + 1;
 			} else {
@@ -192,8 +191,7 @@ public class DrawableText extends Drawable {
 			return Integer.MAX_VALUE;
 		}
 		
-		BufferedImage image = Util.getEmptyImage(1, 1); // Blank image to get font metrics
-		Graphics2D ig = image.createGraphics();
+		FontMetricsCache metrics = FontMetricsCache.of(baseFont);
 
 		int lowBound = 0;
 		int highBound = parentPanel.pixelHeight() + 5;
@@ -201,8 +199,7 @@ public class DrawableText extends Drawable {
 		
 		while (lowBound != highBound) {
 			fontSize = (int) Math.ceil((lowBound + highBound) / 2.0);
-			font = font.deriveFont((float) fontSize);
-			height = pixelToParentHeightFraction(ig.getFontMetrics(font).getHeight());
+			double height = pixelToParentHeightFraction(metrics.atSize(fontSize).getHeight());
 			if (height > maxHeight) {
 				highBound = fontSize - 1;
 			} else {
@@ -213,11 +210,7 @@ public class DrawableText extends Drawable {
 	}
 	
 	protected void calculateDimensions() {
-		BufferedImage image = Util.getEmptyImage(1, 1); // Blank image to get font metrics
-		Graphics2D ig = image.createGraphics();
-		
-		this.width = pixelToParentWidthFraction(ig.getFontMetrics(baseFont).stringWidth(text));
-		this.height = pixelToParentHeightFraction(ig.getFontMetrics(baseFont).getHeight());
+		FontMetricsCache metrics = FontMetricsCache.of(baseFont);
 		
 		int lowBound = Math.max(getWidthLowBound(), getHeightLowBound());
 		int highBound = Math.min(getWidthHighBound(), getHeightHighBound());
@@ -230,10 +223,13 @@ public class DrawableText extends Drawable {
 			fontSize = baseFont.getSize();
 		}
 		
-		font = font.deriveFont((float) fontSize);
-		
-		this.width = pixelToParentWidthFraction(ig.getFontMetrics(font).stringWidth(text));
-		this.height = pixelToParentHeightFraction(ig.getFontMetrics(font).getHeight());
+		// Only assign the fields once the final size is known, since the text may be drawn on another thread in the meantime
+		FontMetricsCache fitted = metrics.atSize(fontSize);
+		double fittedWidth = pixelToParentWidthFraction(fitted.stringWidth(text));
+		double fittedHeight = pixelToParentHeightFraction(fitted.getHeight());
+		font = fitted.getFont();
+		this.width = fittedWidth;
+		this.height = fittedHeight;
 	}
 	
 	protected void calculateCoordinates() {
@@ -257,7 +253,7 @@ public class DrawableText extends Drawable {
 	}
 	
 	@Override
-	public void generateImage() {
+	public synchronized void generateImage() {
 		calculateDimensions();
 		calculateCoordinates();
 		super.generateImage();
@@ -268,7 +264,7 @@ public class DrawableText extends Drawable {
 		Graphics2D g2d = (Graphics2D) g;
 		g2d.setFont(font);
 		g2d.setColor(color);
-		g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_GASP);
+		g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, getRenderQuality().antialiasing ? RenderingHints.VALUE_TEXT_ANTIALIAS_GASP : RenderingHints.VALUE_TEXT_ANTIALIAS_OFF);
 		g2d.drawString(text, 0, g.getFontMetrics(font).getHeight());
 	}
 	
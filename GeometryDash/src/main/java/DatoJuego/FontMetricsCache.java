@@ -0,0 +1,94 @@
+package DatoJuego;
+
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.font.FontRenderContext;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.ConcurrentHashMap;
+
+
+
+/**
+ * Measures text for one font, remembering the results so that fitting text to a size (which measures the same text at many font sizes)
+ * does not derive fonts, create graphics objects or measure strings again. Instances are shared: get one with {@link #of(Font)}, and the same
+ * font at another size with {@link #atSize(int)}. All measurements use one {@link FontRenderContext}, the same one an image's graphics object uses by default.
+ * Safe to use from several threads.
+ */
+public class FontMetricsCache {
+
+	/** The most string widths remembered per font before they are forgotten and measured again. */
+	private static final int maxWidths = 512;
+
+	private static final ConcurrentHashMap<Font, FontMetricsCache> caches = new ConcurrentHashMap<Font, FontMetricsCache>();
+
+	/** Only used to create font metrics, which is done while holding its lock. */
+	private static final Graphics2D measuringGraphics = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB).createGraphics();
+	private static final FontRenderContext frc = measuringGraphics.getFontRenderContext();
+
+	private final Font font;
+	private final FontMetrics metrics;
+	private final ConcurrentHashMap<Integer, FontMetricsCache> sizes = new ConcurrentHashMap<Integer, FontMetricsCache>();
+	private final ConcurrentHashMap<String, Integer> widths = new ConcurrentHashMap<String, Integer>();
+
+	private FontMetricsCache(Font font) {
+		this.font = font;
+		synchronized (measuringGraphics) {
+			metrics = measuringGraphics.getFontMetrics(font);
+		}
+	}
+
+	/** Returns the shared cache for a font. */
+	public static FontMetricsCache of(Font font) {
+		FontMetricsCache cache = caches.get(font);
+		if (cache == null) {
+			cache = new FontMetricsCache(font);
+			FontMetricsCache previous = caches.putIfAbsent(font, cache);
+			if (previous != null) {
+				cache = previous;
+			}
+		}
+		return cache;
+	}
+
+	/** Returns the shared cache for this font at another point size, deriving the font only the first time. */
+	public FontMetricsCache atSize(int size) {
+		FontMetricsCache cache = sizes.get(size);
+		if (cache == null) {
+			cache = of(font.deriveFont((float) size));
+			sizes.put(size, cache);
+		}
+		return cache;
+	}
+
+	/** Returns the width of a string in pixels, as {@link FontMetrics#stringWidth(String)} does. */
+	public int stringWidth(String text) {
+		Integer width = widths.get(text);
+		if (width == null) {
+			if (widths.size() >= maxWidths) {
+				widths.clear();
+			}
+			width = metrics.stringWidth(text);
+			widths.put(text, width);
+		}
+		return width;
+	}
+
+	/** Returns the height of a line of text in pixels, as {@link FontMetrics#getHeight()} does. */
+	public int getHeight() {
+		return metrics.getHeight();
+	}
+
+	public Font getFont() {
+		return font;
+	}
+
+	public FontMetrics getMetrics() {
+		return metrics;
+	}
+
+	/** Returns the render context that every measurement is made with. */
+	public static FontRenderContext getFontRenderContext() {
+		return frc;
+	}
+}
@@ -0,0 +1,27 @@
+package DatoJuego;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+
+
+/**
+ * A Java Flight Recorder event covering one phase of a frame (updating the scene, drawing it, or showing the finished frame).
+ * The duration of the event is the time spent in that phase, so recordings can show which phase a stutter came from.
+ */
+@Name("shapesprint.Frame")
+@Label("Frame Phase")
+@Category("Shape Sprint")
+@Description("Time spent in one phase of the game loop")
+public class FrameEvent extends Event {
+
+	@Label("Phase")
+	@Description("update, draw or show")
+	public String phase;
+
+	@Label("Scene")
+	public String scene;
+}
@@ -0,0 +1,80 @@
+package DatoJuego;
+
+
+
+/**
+ * Collects how long each phase of a frame takes (updating the scene, drawing it, and showing it with {@link java.awt.image.BufferStrategy#show()}).
+ * Durations go into fixed-size {@link LatencyHistogram}s, and about once a second the percentiles of each phase are summarised and the histograms cleared,
+ * so the summary always describes the last second of play.
+ * Each phase should only be recorded from one thread.
+ * @see FrameStatsOverlay
+ */
+public class FrameStats {
+
+	public static final int UPDATE = 0, DRAW = 1, SHOW = 2;
+	public static final String[] PHASE_NAMES = {"update", "draw", "show"};
+
+	/** The percentiles that are summarised for each phase. The maximum is reported separately. */
+	public static final double[] PERCENTILES = {50, 99, 99.9};
+
+	/** How often (in nanoseconds) the histograms are summarised and cleared. */
+	private static final long windowLength = 1000000000L;
+
+	private final LatencyHistogram[] histograms = new LatencyHistogram[PHASE_NAMES.length];
+	private final long[] windowStart = new long[PHASE_NAMES.length];
+
+	/** The summarised percentiles for each phase, in nanoseconds: [phase][percentile index], with the maximum as the last entry. */
+	private final long[][] summary = new long[PHASE_NAMES.length][PERCENTILES.length + 1];
+	private final long[] summaryCount = new long[PHASE_NAMES.length];
+	private volatile long summaryVersion = 0;
+
+	public FrameStats() {
+		long now = System.nanoTime();
+		for (int i = 0; i < histograms.length; i++) {
+			histograms[i] = new LatencyHistogram();
+			windowStart[i] = now;
+		}
+	}
+
+	/**
+	 * Records how long a phase of the current frame took.
+	 * @param phase One of {@link #UPDATE}, {@link #DRAW} or {@link #SHOW}
+	 * @param start The System.nanoTime() when the phase started
+	 * @param end The System.nanoTime() when the phase ended
+	 */
+	public void record(int phase, long start, long end) {
+		LatencyHistogram histogram = histograms[phase];
+		histogram.record(end - start);
+		
+		if (end - windowStart[phase] >= windowLength) {
+			for (int i = 0; i < PERCENTILES.length; i++) {
+				summary[phase][i] = histogram.getValueAtPercentile(PERCENTILES[i]);
+			}
+			summary[phase][PERCENTILES.length] = histogram.getMax();
+			summaryCount[phase] = histogram.getCount();
+			histogram.reset();
+			windowStart[phase] = end;
+			summaryVersion++;
+		}
+	}
+
+	/** Returns the given percentile (an index into {@link #PERCENTILES}) of a phase from the last summary, in nanoseconds. */
+	public long getPercentile(int phase, int percentileIndex) {
+		return summary[phase][percentileIndex];
+	}
+
+	/** Returns the longest time a phase took during the last summary, in nanoseconds. */
+	public long getMax(int phase) {
+		return summary[phase][PERCENTILES.length];
+	}
+
+	/** Returns how many times a phase ran during the last summary. */
+	public long getCount(int phase) {
+		return summaryCount[phase];
+	}
+
+	/** Returns a number that changes every time a new summary is available. */
+	public long getSummaryVersion() {
+		return summaryVersion;
+	}
+}
@@ -0,0 +1,63 @@
+package DatoJuego;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+
+
+
+/**
+ * An on-screen table of the frame time percentiles collected by a {@link FrameStats} object.
+ * The text is only rebuilt when a new summary is available (about once a second), not every frame.
+ * Toggle it in game with {@link Game#toggleFrameStatsOverlay()} (F3 by default).
+ */
+public class FrameStatsOverlay extends Drawable {
+
+	private final FrameStats stats;
+	private long shownVersion = -1;
+	private String[] lines = new String[0];
+	private Font font;
+	private int fontHeight = -1;
+
+	private final Color textColor = Color.WHITE;
+
+	public FrameStatsOverlay(FrameStats stats) {
+		super(0, 0, 0.3, 0.12);
+		this.stats = stats;
+		setBackground(new Color(0, 0, 0, 160));
+		setDynamic(true);
+	}
+
+	@Override
+	public void draw(Graphics g) {
+		if (shownVersion != stats.getSummaryVersion()) {
+			shownVersion = stats.getSummaryVersion();
+			lines = buildLines();
+		}
+
+		int lineHeight = Math.max(1, pixelHeight() / (FrameStats.PHASE_NAMES.length + 1));
+		if (font == null || fontHeight != lineHeight) {
+			fontHeight = lineHeight;
+			font = new Font(Font.MONOSPACED, Font.PLAIN, Math.max(1, (int) (lineHeight * 0.8)));
+		}
+
+		Graphics2D g2d = (Graphics2D) g;
+		g2d.setFont(font);
+		g2d.setColor(textColor);
+		for (int i = 0; i < lines.length; i++) {
+			g2d.drawString(lines[i], 4, lineHeight * (i + 1) - lineHeight / 5);
+		}
+	}
+
+	private String[] buildLines() {
+		String[] newLines = new String[FrameStats.PHASE_NAMES.length + 1];
+		newLines[0] = String.format("%-7s%8s%8s%8s%8s%7s", "ms", "p50", "p99", "p99.9", "max", "n");
+		for (int phase = 0; phase < FrameStats.PHASE_NAMES.length; phase++) {
+			newLines[phase + 1] = String.format("%-7s%8.2f%8.2f%8.2f%8.2f%7d", FrameStats.PHASE_NAMES[phase],
+					stats.getPercentile(phase, 0) / 1e6, stats.getPercentile(phase, 1) / 1e6, stats.getPercentile(phase, 2) / 1e6,
+					stats.getMax(phase) / 1e6, stats.getCount(phase));
+		}
+		return newLines;
+	}
+}
@@ -2,10 +2,18 @@ package DatoJuego;
 
 import java.awt.*;
 import java.awt.event.*;
+import java.awt.geom.AffineTransform;
 import java.awt.image.BufferStrategy;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
 
 import javax.swing.*;
 
+import jdk.jfr.FlightRecorder;
+
 
 /**
  * A class that handles window operations and manages Scenes to draw a Game to a Window.
@@ -25,6 +33,22 @@ public abstract class Game extends JFrame implements WindowListener {
 	
 	private Scene currentScene = null;
 	
+	/** The scene most recently passed to {@link #setScene(Scene)} that has not been shown yet, or null. */
+	private volatile Scene nextScene = null;
+	
+	/** A scene that has finished loading and will be shown by the game loop before its next update, or null. */
+	private final AtomicReference<Scene> loadedScene = new AtomicReference<Scene>();
+	
+	/** Runs the init() method of new scenes, so the current scene keeps running while the next one loads. */
+	private final ExecutorService sceneLoader = Executors.newSingleThreadExecutor(new ThreadFactory() {
+		@Override
+		public Thread newThread(Runnable r) {
+			Thread thread = new Thread(r, "Scene Loader");
+			thread.setDaemon(true);
+			return thread;
+		}
+	});
+	
 	private JPanel contentPane;
 	
 	/** The amount of times per second that the draw() method of the current scene will be called. */
@@ -33,12 +57,39 @@ public abstract class Game extends JFrame implements WindowListener {
 	/** The amount of times per second that the update() method of the current scene will be called. */
 	private double updateFPS = 60;
 	
-	private double lastUpdateTime, lastDrawTime;
+	/** The longest amount of time (in nanoseconds) that a single pass of the game loop can feed into the update accumulator. Stops the game from trying to catch up forever after a long stall. */
+	private static final long maxFrameTime = 250000000L;
+	
+	/** Waits shorter than this (in nanoseconds) are spun instead of parked, since parking can overshoot by about this much. */
+	private static final long spinThreshold = 200000L;
+	
+	private volatile long lastUpdateTime;
+	
+	/** The System.nanoTime() that the most recent update represents. Updates run in bursts, so this can be slightly behind or ahead of the real time of the call. */
+	private volatile long updateTime;
 	
-	private boolean running;
-	private boolean paused = false;
+	/** The length of one update step in nanoseconds. */
+	private volatile long updateStep = (long) (1000000000L / updateFPS);
+	
+	/** Whether the scene is drawn on its own thread instead of between updates. */
+	private boolean threadedRendering = false;
+	
+	private Thread renderThread;
+	
+	/** Frame time telemetry for the update, draw and show phases. */
+	private final FrameStats frameStats = new FrameStats();
+	private final FrameStatsOverlay frameStatsOverlay = new FrameStatsOverlay(frameStats);
+	private volatile boolean showingFrameStats = false;
+	
+	/** The window's insets, refreshed when the window is resized or shown, since asking the window for them creates a new Insets object each time. Never changed once stored. */
+	private volatile Insets insets = new Insets(0, 0, 0, 0);
+	
+	/** Lowers the render quality when frames take too long to draw, and raises it again when there is room. */
+	private final QualityGovernor qualityGovernor = new QualityGovernor();
+	
+	private volatile boolean running;
+	private volatile boolean paused = false;
 	private volatile boolean loadingScene = true;
-	private volatile boolean resizingScene = false;
 	private volatile boolean updating = false;
 	private volatile boolean drawing = false;
 	
@@ -50,16 +101,68 @@ public abstract class Game extends JFrame implements WindowListener {
 	public Game() {
 		setLocationRelativeTo(null);
 		setDefaultCloseOperation(DISPOSE_ON_CLOSE);
+		addKeyListener(new KeyAdapter() {
+			@Override
+			public void keyPressed(KeyEvent e) {
+				if (e.getKeyCode() == KeyEvent.VK_F3) {
+					toggleFrameStatsOverlay();
+				}
+			}
+		});
+		addComponentListener(new ComponentAdapter() {
+			@Override
+			public void componentResized(ComponentEvent e) {
+				insets = getInsets();
+			}
+			
+			@Override
+			public void componentShown(ComponentEvent e) {
+				insets = getInsets();
+			}
+		});
 		setVisible(true);
 		init();
 	}
 	
 	private void updateScene(double dt) {
+		FrameEvent event = beginFrameEvent();
+		long start = System.nanoTime();
+		
 		currentScene.update(dt);
+		
+		frameStats.record(FrameStats.UPDATE, start, System.nanoTime());
+		commitFrameEvent(event, FrameStats.UPDATE);
+	}
+	
+	/**
+	 * Starts a JFR event for a phase of the frame. Returns null instead if no flight recording has been started since the game was launched,
+	 * so that frames do not create events only to throw them away.
+	 */
+	private FrameEvent beginFrameEvent() {
+		if (!FlightRecorder.isInitialized()) {
+			return null;
+		}
+		FrameEvent event = new FrameEvent();
+		event.begin();
+		return event;
+	}
+	
+	/** Ends and commits a JFR event for a phase of the frame started by {@link #beginFrameEvent()}, if JFR is recording it. */
+	private void commitFrameEvent(FrameEvent event, int phase) {
+		if (event == null) {
+			return;
+		}
+		event.end();
+		if (event.shouldCommit()) {
+			event.phase = FrameStats.PHASE_NAMES[phase];
+			event.scene = currentScene.getClass().getSimpleName();
+			event.commit();
+		}
 	}
 	
 	public void addNotify() {
         super.addNotify();
+        insets = getInsets(); // The window's decorations are known once it has a peer
         
         do {
         	try {
@@ -85,23 +188,106 @@ public abstract class Game extends JFrame implements WindowListener {
 		if (currentScene != null && currentScene.hasParentPanel()) {
 			try {
 				BufferStrategy strategy = getBufferStrategy();
+				
+				FrameEvent drawEvent = beginFrameEvent();
+				long drawStart = System.nanoTime();
+				
 				Graphics g = (Graphics2D) strategy.getDrawGraphics();
 				
 				g.clearRect(0, 0, getWidth(), getHeight());
 				
-				currentScene.draw(g, getInsets());
+				Insets insets = this.insets;
+				currentScene.draw(g, insets);
+				if (nextScene != null) {
+					((Graphics2D) g).setTransform(new AffineTransform());
+					drawLoadingProgress(g, nextScene.getLoadingProgress());
+				}
+				if (showingFrameStats) {
+					drawFrameStats((Graphics2D) g, insets);
+				}
 				g.dispose();
-			
+				
+				long showStart = System.nanoTime();
+				frameStats.record(FrameStats.DRAW, drawStart, showStart);
+				qualityGovernor.record(drawStart, showStart);
+				commitFrameEvent(drawEvent, FrameStats.DRAW);
+				
+				FrameEvent showEvent = beginFrameEvent();
+				
 				strategy.show();
+				
+				frameStats.record(FrameStats.SHOW, showStart, System.nanoTime());
+				commitFrameEvent(showEvent, FrameStats.SHOW);
 			} catch (IllegalStateException e) {}
 		}
 	}
 	
+	/** Draws the frame time overlay on top of the current scene. */
+	private void drawFrameStats(Graphics2D g, Insets insets) {
+		if (frameStatsOverlay.hasParentPanel()) {
+			g.setTransform(AffineTransform.getTranslateInstance(frameStatsOverlay.pixelX(insets.left), frameStatsOverlay.pixelY(insets.top)));
+			frameStatsOverlay.drawImage(g);
+		}
+	}
+	
+	/** Returns the frame time statistics collected by the game loop. */
+	public FrameStats getFrameStats() {
+		return frameStats;
+	}
+	
+	/** Returns the governor that chooses the render quality, to read or fix the current quality or change the frame rate it aims for. */
+	public QualityGovernor getQualityGovernor() {
+		return qualityGovernor;
+	}
+	
+	/** Returns the quality that scenes should currently draw at. */
+	public RenderQuality getRenderQuality() {
+		return qualityGovernor.getQuality();
+	}
+	
+	/** Shows or hides the frame time overlay on top of the current scene. */
+	public void setFrameStatsOverlayVisible(boolean visible) {
+		showingFrameStats = visible;
+	}
+	
+	public boolean isFrameStatsOverlayVisible() {
+		return showingFrameStats;
+	}
+	
+	/** Shows the frame time overlay if it is hidden, and vice versa. */
+	public void toggleFrameStatsOverlay() {
+		setFrameStatsOverlayVisible(!showingFrameStats);
+	}
+	
+	/** Draws the screen shown while there is no scene to draw, usually while the first scene loads. Use {@link #getLoadingProgress()} to show how far along it is. */
 	protected void drawLoadingScreen(Graphics g) {
 		g.setColor(Color.black);
 		g.fillRect(0, 0, getWidth(), getHeight());
 		g.setColor(Color.white);
-		g.drawString("Loading...", getWidth() / 2, getHeight() / 2);
+		g.drawString("Loading... " + Util.toPercentageString(getLoadingProgress()), getWidth() / 2, getHeight() / 2);
+	}
+	
+	/**
+	 * Draws the loading progress of the next scene on top of the current scene, which keeps running while the next one loads.
+	 * By default this is a thin bar along the bottom of the window.
+	 * @param progress How much of the next scene has been loaded, from 0 to 1
+	 */
+	protected void drawLoadingProgress(Graphics g, double progress) {
+		Insets insets = this.insets;
+		int barHeight = Math.max(2, (getHeight() - insets.top - insets.bottom) / 200);
+		g.setColor(Color.white);
+		g.fillRect(insets.left, getHeight() - insets.bottom - barHeight, (int) ((getWidth() - insets.left - insets.right) * progress), barHeight);
+	}
+	
+	/** Returns how much of the scene passed to {@link #setScene(Scene)} has been loaded, from 0 to 1, or 1 if no scene is loading. */
+	public double getLoadingProgress() {
+		Scene scene = nextScene;
+		return scene != null ? scene.getLoadingProgress() : 1;
+	}
+	
+	/** Returns whether a scene passed to {@link #setScene(Scene)} is still loading. */
+	public boolean isLoadingScene() {
+		return nextScene != null;
 	}
 	
 	/**
@@ -120,19 +306,19 @@ public abstract class Game extends JFrame implements WindowListener {
 	}
 	
 	public int leftInset() {
-		return getInsets().left;
+		return insets.left;
 	}
 	
 	public int rightInset() {
-		return getInsets().right;
+		return insets.right;
 	}
 	
 	public int topInset() {
-		return getInsets().top;
+		return insets.top;
 	}
 	
 	public int bottomInset() {
-		return getInsets().bottom;
+		return insets.bottom;
 	}
 	
 	/**
@@ -183,37 +369,92 @@ public abstract class Game extends JFrame implements WindowListener {
 		updateFPS = d;
 	}
 	
-	public void setScene(Scene s) {
+	/**
+	 * Switches to a new scene. The scene's {@link Scene#init()} runs on a background thread while the current scene keeps being updated and drawn,
+	 * and the game loop swaps the scenes once it returns. Until then the new scene does not receive input, and {@link #getLoadingProgress()} reports how far along it is.
+	 * If another scene is set before this one finishes loading, this one is never shown.
+	 */
+	public void setScene(final Scene s) {
+		nextScene = s;
+		s.setGame(this);
+		
+		sceneLoader.execute(new Runnable() {
+			@Override
+			public void run() {
+				if (nextScene != s) {
+					return; // Replaced by a newer scene before it started loading
+				}
+				try {
+					s.init();
+				} catch (RuntimeException e) {
+					System.out.println("Unable to load scene " + s.getClass().getSimpleName());
+					e.printStackTrace();
+					if (nextScene == s) {
+						nextScene = null;
+					}
+					return;
+				}
+				s.finishLoading();
+				if (nextScene == s) {
+					loadedScene.set(s);
+				}
+			}
+		});
+	}
+	
+	/** Replaces the current scene with a scene that has finished loading. Runs on the game loop thread, between updates. */
+	private void showScene(Scene s) {
 		loadingScene = true;
+		while (drawing) {
+			Thread.onSpinWait(); // Let the render thread finish its frame of the old scene
+		}
 		
 		if (currentScene != null) {
 			currentScene.dispose();
 		}
 		
 		currentScene = s;
-		currentScene.setGame(this);
+		if (nextScene == s) {
+			nextScene = null;
+		}
 		
 		contentPane = new JPanel();
 		contentPane.setPreferredSize(new Dimension(getWidth(), getHeight()));
 		contentPane.addComponentListener(currentScene);
 		setContentPane(contentPane);
-
-		currentScene.init();
+		
+		currentScene.startReceivingInput();
+		currentScene.setDimensions(getWidth(), getHeight()); // The window may have changed size while the scene was loading
+		frameStatsOverlay.setParentPanel(currentScene);
 		loadingScene = false;
 		
 		pack();
 		
 		currentScene.start();
-		lastUpdateTime = System.nanoTime() / 1000000000.0;
+		lastUpdateTime = System.nanoTime();
 		paused = false;
 	}
 	
+	/** Returns the scene currently being shown, or null if the first scene has not finished loading. */
+	public Scene getScene() {
+		return currentScene;
+	}
+	
 	@Override
 	public void removeComponentListener(ComponentListener l) {
 		super.removeComponentListener(l);
-		contentPane.removeComponentListener(l);
+		if (contentPane != null) {
+			contentPane.removeComponentListener(l);
+		}
 	}
 	
+	/**
+	 * Runs the game loop until the game is exited.
+	 * The current scene is updated in fixed steps of 1 / updateFPS seconds: the time that passes is collected in an accumulator and
+	 * as many whole steps as fit are run. The scene is drawn every 1 / drawFPS seconds, and between deadlines the thread is parked
+	 * instead of spinning, so the loop only uses as much CPU as the frame budget needs.
+	 * With threaded rendering enabled, drawing happens on a separate render thread and this loop only updates.
+	 */
 	public void run() {
 		start();
 		
@@ -221,35 +462,136 @@ public abstract class Game extends JFrame implements WindowListener {
 		drawing = false;
 		updating = false;
 		
-		double now;
+		long now = System.nanoTime();
+		long accumulator = 0;
+		long nextDrawTime = now;
+		lastUpdateTime = now;
+		updateTime = now;
+		
+		if (threadedRendering) {
+			renderThread = new Thread(new Runnable() {
+				@Override
+				public void run() {
+					renderLoop();
+				}
+			}, "Render");
+			renderThread.setDaemon(true);
+			renderThread.start();
+		}
+		
+		while (running) {
+			Scene loaded = loadedScene.getAndSet(null);
+			if (loaded != null) {
+				showScene(loaded);
+			}
+			
+			updateStep = (long) (1000000000L / updateFPS);
+			
+			now = System.nanoTime();
+			long elapsed = Math.min(now - lastUpdateTime, maxFrameTime);
+			lastUpdateTime = now;
+			
+			if (!paused && !loadingScene) {
+				accumulator += elapsed;
+				while (accumulator >= updateStep && !paused && !loadingScene) {
+					updateTime = now - accumulator + updateStep;
+					updating = true;
+					updateScene(updateStep / 1000000000.0);
+					updating = false;
+					accumulator -= updateStep;
+				}
+			} else {
+				accumulator = 0;
+			}
+			
+			long deadline;
+			if (threadedRendering) {
+				deadline = paused || loadingScene ? now + updateStep : lastUpdateTime + updateStep - accumulator;
+			} else {
+				nextDrawTime = drawIfDue(nextDrawTime);
+				// Sleep until the next update or draw is due
+				deadline = nextDrawTime;
+				if (!paused && !loadingScene) {
+					deadline = Math.min(deadline, lastUpdateTime + updateStep - accumulator);
+				}
+			}
+			waitUntil(deadline);
+		}
+	}
+	
+	/** The loop run by the render thread when threaded rendering is enabled: draws the scene every 1 / drawFPS seconds until the game exits. */
+	private void renderLoop() {
+		long nextDrawTime = System.nanoTime();
 		while (running) {
-			now = System.nanoTime() / 1000000000.0;
-            if (now - lastUpdateTime >= 1 / this.updateFPS && !paused && !loadingScene && !resizingScene) {
-            	double dt = now - lastUpdateTime;
-            	lastUpdateTime = now;
-            	updating = true;
-            	updateScene(dt);
-            	updating = false;
-            } 
-            
-			now = System.nanoTime() / 1000000000.0;
-            if (now - lastDrawTime >= 1 / this.drawFPS && !loadingScene && !resizingScene) {
-            	lastDrawTime = now;
-            	drawing = true;
+			nextDrawTime = drawIfDue(nextDrawTime);
+			waitUntil(nextDrawTime);
+		}
+	}
+	
+	/**
+	 * Draws the scene (or the loading screen) if the given draw deadline has passed.
+	 * @return The deadline for the next frame
+	 */
+	private long drawIfDue(long nextDrawTime) {
+		long drawStep = (long) (1000000000L / drawFPS);
+		long now = System.nanoTime();
+		if (now >= nextDrawTime) {
+			// Set drawing before checking the flag, so a scene change that sets its flag first always waits for this frame
+			drawing = true;
+			boolean sceneReady = !loadingScene;
+			if (sceneReady) {
 				drawScene();
-				drawing = false;
-            } else if (loadingScene) {
-            	try {
-            		BufferStrategy strategy = getBufferStrategy();
-            		Graphics g = (Graphics2D) strategy.getDrawGraphics();
-            		
-            		drawLoadingScreen(g);
-            		
-            		g.dispose();
-            		strategy.show();
-            	} catch (IllegalStateException e) {}
-            }
+			}
+			drawing = false;
+			
+			if (!sceneReady) {
+				try {
+					BufferStrategy strategy = getBufferStrategy();
+					Graphics g = (Graphics2D) strategy.getDrawGraphics();
+					
+					drawLoadingScreen(g);
+					
+					g.dispose();
+					strategy.show();
+				} catch (IllegalStateException e) {}
+			}
+			
+			nextDrawTime += drawStep;
+			if (now - nextDrawTime > drawStep) {
+				nextDrawTime = now + drawStep; // Fell too far behind, so skip the missed frames instead of drawing them back to back
+			}
 		}
+		return nextDrawTime;
+	}
+	
+	/** Parks the game loop thread until the given {@link System#nanoTime()} deadline, spinning only for the last fraction of a millisecond. */
+	private void waitUntil(long deadline) {
+		long remaining = deadline - System.nanoTime();
+		while (remaining > spinThreshold) {
+			LockSupport.parkNanos(remaining - spinThreshold);
+			remaining = deadline - System.nanoTime();
+		}
+		while (deadline - System.nanoTime() > 0) {
+			Thread.onSpinWait();
+		}
+	}
+	
+	/** Returns the System.nanoTime() that the update currently running (or the most recent one) represents. */
+	public long getUpdateTime() {
+		return updateTime;
+	}
+	
+	/**
+	 * Sets whether the scene is drawn on a dedicated render thread. Must be called before {@link #run()}, usually from {@link #init()}.
+	 * When enabled, updates and drawing overlap on multi-core machines and a slow frame no longer delays the next update,
+	 * but scenes need to draw from state that is safe to read while they are being updated.
+	 */
+	protected void setThreadedRendering(boolean threaded) {
+		threadedRendering = threaded;
+	}
+	
+	public boolean isThreadedRendering() {
+		return threadedRendering;
 	}
 	
 	public boolean isPaused() {
@@ -268,10 +610,6 @@ public abstract class Game extends JFrame implements WindowListener {
 		return updating;
 	}
 	
-	public void setResizingScene(boolean b) {
-		resizingScene = b;
-	}
-	
 	public void onWindowClosing() {}
 	
 	/**
@@ -279,6 +617,10 @@ public abstract class Game extends JFrame implements WindowListener {
 	 */
 	public void exit() {
 		onWindowClosing();
+		loadingScene = true;
+		while (drawing) {
+			Thread.onSpinWait(); // Let the render thread finish its frame before the scene's images are released
+		}
 		if (currentScene != null) {
 			currentScene.dispose();
 		}
@@ -304,7 +646,7 @@ public abstract class Game extends JFrame implements WindowListener {
 	public void resumeGame() {
 		paused = false;
 		currentScene.onResume();
-		lastUpdateTime = System.nanoTime() / 1000000000.0;
+		lastUpdateTime = System.nanoTime();
 	}
 	
 	public void togglePaused() {
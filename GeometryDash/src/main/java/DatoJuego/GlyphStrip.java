@@ -0,0 +1,96 @@
+package DatoJuego;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Shape;
+import java.awt.font.TextLayout;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+
+
+
+/**
+ * A few short pieces of outlined text (such as the ten digits) drawn once, side by side, into one image.
+ * Text made only of those pieces can then be drawn by copying them one after another, without laying out text or creating an image each time it changes.
+ * Pieces are placed by their advance width (as measured by {@link FontMetricsCache}), so kerning between pieces is not applied.
+ */
+public class GlyphStrip {
+
+	private final BufferedImage image;
+	private final int[] cellX, cellWidth, advance;
+	private final int cellHeight, padding;
+
+	/**
+	 * Draws the pieces of text into a new strip.
+	 * @param font The font to draw with, at the size it will be shown at
+	 * @param pieces The pieces of text, in the order they are referred to by index (empty pieces are allowed and draw nothing)
+	 * @param color The colour to fill the text with
+	 * @param outlineColor The colour of the outline around the text
+	 * @param outlineWidth The width of the outline in pixels
+	 * @param quality The quality to draw the text at
+	 */
+	public GlyphStrip(Font font, String[] pieces, Color color, Color outlineColor, float outlineWidth, RenderQuality quality) {
+		FontMetricsCache metrics = FontMetricsCache.of(font);
+		padding = (int) Math.ceil(outlineWidth);
+		cellHeight = metrics.getHeight() + padding * 2;
+		cellX = new int[pieces.length];
+		cellWidth = new int[pieces.length];
+		advance = new int[pieces.length];
+
+		int width = 0;
+		for (int i = 0; i < pieces.length; i++) {
+			advance[i] = metrics.stringWidth(pieces[i]);
+			cellX[i] = width;
+			cellWidth[i] = advance[i] + padding * 2;
+			width += cellWidth[i];
+		}
+
+		image = Util.getEmptyImage(Math.max(width, 1), cellHeight, false);
+		Graphics2D g = image.createGraphics();
+		quality.applyHints(g);
+		g.setStroke(new BasicStroke(outlineWidth));
+		int baseline = padding + metrics.getMetrics().getAscent();
+		for (int i = 0; i < pieces.length; i++) {
+			if (pieces[i].isEmpty()) {
+				continue;
+			}
+			// Fill the text, then draw the outline over it, in the same way as DrawableOutlinedText
+			Shape outline = new TextLayout(pieces[i], font, g.getFontRenderContext()).getOutline(AffineTransform.getTranslateInstance(cellX[i] + padding, baseline));
+			g.setColor(color);
+			g.fill(outline);
+			g.setColor(outlineColor);
+			g.draw(outline);
+		}
+		g.dispose();
+	}
+
+	/**
+	 * Draws a piece of text.
+	 * @param g The graphics object to draw with
+	 * @param piece The index of the piece
+	 * @param x The x coordinate where the text of the piece starts (its outline extends {@link #getPadding()} pixels further left)
+	 * @param y The y coordinate of the top of the piece's outline
+	 */
+	public void draw(Graphics g, int piece, int x, int y) {
+		int sx = cellX[piece], w = cellWidth[piece];
+		g.drawImage(image, x - padding, y, x - padding + w, y + cellHeight, sx, 0, sx + w, cellHeight, null);
+	}
+
+	/** Returns how far along the next piece starts after this one, in pixels. */
+	public int getAdvance(int piece) {
+		return advance[piece];
+	}
+
+	/** Returns the height of every piece including its outline, in pixels. */
+	public int getHeight() {
+		return cellHeight;
+	}
+
+	/** Returns how far the outline extends around the text, in pixels. */
+	public int getPadding() {
+		return padding;
+	}
+}
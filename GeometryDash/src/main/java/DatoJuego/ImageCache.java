@@ -0,0 +1,61 @@
+package DatoJuego;
+
+import java.awt.image.BufferedImage;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+
+
+/**
+ * A thread safe cache of images that are expensive to draw, limited to roughly a number of bytes.
+ * When adding an image would go over the limit, the least recently used images are dropped first.
+ * Cached images are shared by everything that asks for the same key, so they must not be drawn on after being added.
+ */
+public class ImageCache<K> {
+
+	private final long maxBytes;
+	private long bytes = 0;
+	private final LinkedHashMap<K, BufferedImage> images = new LinkedHashMap<K, BufferedImage>(16, 0.75f, true);
+
+	/** @param maxBytes Roughly how much memory the images may take up, counting 4 bytes per pixel */
+	public ImageCache(long maxBytes) {
+		this.maxBytes = maxBytes;
+	}
+
+	/** Returns the image stored under a key, or null if there is none. */
+	public synchronized BufferedImage get(K key) {
+		return images.get(key);
+	}
+
+	/** Stores an image under a key, then drops the least recently used images until the cache is within its limit (never dropping the new image). */
+	public synchronized void put(K key, BufferedImage image) {
+		BufferedImage previous = images.put(key, image);
+		if (previous != null) {
+			bytes -= sizeOf(previous);
+		}
+		bytes += sizeOf(image);
+
+		Iterator<Map.Entry<K, BufferedImage>> iterator = images.entrySet().iterator();
+		while (bytes > maxBytes && images.size() > 1) {
+			Map.Entry<K, BufferedImage> eldest = iterator.next();
+			bytes -= sizeOf(eldest.getValue());
+			iterator.remove();
+		}
+	}
+
+	/** Drops every image. */
+	public synchronized void clear() {
+		images.clear();
+		bytes = 0;
+	}
+
+	/** Returns the number of images in the cache. */
+	public synchronized int size() {
+		return images.size();
+	}
+
+	private static long sizeOf(BufferedImage image) {
+		return 4L * image.getWidth() * image.getHeight();
+	}
+}
@@ -0,0 +1,97 @@
+package DatoJuego;
+
+import java.util.ArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+
+/**
+ * Regenerates the images of a scene's drawables on a fork-join pool after the window is resized, so the game keeps being updated and drawn meanwhile.
+ * Each drawable swaps in its new image in one assignment once it is finished (see {@link Drawable#generateImage()}), and until then its old image is drawn stretched to the new size.
+ * Regenerations of one scene run one at a time in the order they were requested, and one that is replaced by a newer request before it starts is skipped.
+ */
+public class ImageRegenerator {
+
+	/** Draws the images, leaving one core for the game loop. Drawables can split their own work further with {@link ForkJoinTask#invokeAll}. */
+	private static final ForkJoinPool pool = new ForkJoinPool(Math.max(1, Runtime.getRuntime().availableProcessors() - 1), new ForkJoinPool.ForkJoinWorkerThreadFactory() {
+		@Override
+		public ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+			ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+			thread.setName("Image Regenerator " + thread.getPoolIndex());
+			thread.setDaemon(true);
+			return thread;
+		}
+	}, null, false);
+
+	/** Starts the regenerations of every scene in order, waiting for each to finish before starting the next. */
+	private static final ExecutorService coordinator = Executors.newSingleThreadExecutor(new ThreadFactory() {
+		@Override
+		public Thread newThread(Runnable r) {
+			Thread thread = new Thread(r, "Image Regeneration Coordinator");
+			thread.setDaemon(true);
+			return thread;
+		}
+	});
+
+	/** Counts the requests made to this regenerator, so a request can tell whether a newer one has replaced it. */
+	private final AtomicInteger requests = new AtomicInteger();
+
+	/**
+	 * Regenerates the images of everything in a panel at its current size, in the background. Returns straight away.
+	 * @param panel The panel (usually a {@link Scene}) whose drawables changed size
+	 */
+	public void regenerate(final Panel panel) {
+		final int request = requests.incrementAndGet();
+		coordinator.execute(new Runnable() {
+			@Override
+			public void run() {
+				if (request != requests.get()) {
+					return; // A newer size has been set since, so only the newer request needs to run
+				}
+				try {
+					pool.invoke(ForkJoinTask.adapt(new Runnable() {
+						@Override
+						public void run() {
+							regenerateChildren(panel);
+						}
+					}));
+				} catch (RuntimeException e) {
+					System.out.println("Unable to regenerate the images of " + panel.getClass().getSimpleName());
+					e.printStackTrace();
+				}
+			}
+		});
+	}
+
+	/**
+	 * Regenerates the images of a panel's drawables in parallel, and waits for them to finish. Panels inside it regenerate their own drawables through {@link Panel#onRescale()}.
+	 * When called from outside the pool, the work runs in the common fork-join pool.
+	 */
+	public static void regenerateChildren(final Panel panel) {
+		ArrayList<ForkJoinTask<?>> tasks = new ArrayList<ForkJoinTask<?>>();
+		for (final Drawable d: new ArrayList<Drawable>(panel.drawables)) {
+			tasks.add(ForkJoinTask.adapt(new Runnable() {
+				@Override
+				public void run() {
+					if (d instanceof Panel) {
+						((Panel) d).onRescale();
+					} else {
+						d.setParentPanel(panel);
+					}
+				}
+			}));
+		}
+		ForkJoinTask.invokeAll(tasks);
+	}
+
+	/** Runs a piece of image work on the pool in the background, such as regenerating one drawable's images. */
+	public static void execute(Runnable task) {
+		pool.execute(task);
+	}
+}
@@ -0,0 +1,73 @@
+package DatoJuego;
+
+
+
+/**
+ * A lock-free ring buffer that passes timestamped input events from one producer thread (usually the AWT event dispatch thread) to one consumer thread (the game loop).
+ * Each event is a small integer type plus the {@link System#nanoTime()} it happened at, so the consumer can apply it at the right point of the simulation
+ * instead of whenever the next update happens to run. Nothing is allocated per event, and neither side ever waits for the other.
+ */
+public class InputQueue {
+
+	private final int[] types;
+	private final long[] times;
+	private final int mask;
+
+	/** The number of events ever taken out of the queue. Only written by the consumer. */
+	private volatile long head = 0;
+
+	/** The number of events ever put into the queue. Only written by the producer, after the event itself, so the consumer never sees a half written event. */
+	private volatile long tail = 0;
+
+	/**
+	 * Creates an empty queue.
+	 * @param capacity The most events the queue can hold at once, rounded up to a power of two
+	 */
+	public InputQueue(int capacity) {
+		int size = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+		types = new int[size];
+		times = new long[size];
+		mask = size - 1;
+	}
+
+	/**
+	 * Adds an event to the queue. Must only be called from the producer thread.
+	 * @param type The type of event
+	 * @param time The {@link System#nanoTime()} that the event happened at
+	 * @return False if the queue was full and the event was dropped
+	 */
+	public boolean offer(int type, long time) {
+		long t = tail;
+		if (t - head == types.length) {
+			return false;
+		}
+		int index = (int) t & mask;
+		types[index] = type;
+		times[index] = time;
+		tail = t + 1;
+		return true;
+	}
+
+	/** Returns true if there are no events waiting. */
+	public boolean isEmpty() {
+		return head == tail;
+	}
+
+	/** Returns the time of the oldest event in the queue. Must only be called from the consumer thread, when the queue is not empty. */
+	public long peekTime() {
+		return times[(int) head & mask];
+	}
+
+	/** Removes the oldest event from the queue and returns its type. Must only be called from the consumer thread, when the queue is not empty. */
+	public int poll() {
+		long h = head;
+		int type = types[(int) h & mask];
+		head = h + 1;
+		return type;
+	}
+
+	/** Removes every event from the queue. Must only be called from the consumer thread. */
+	public void clear() {
+		head = tail;
+	}
+}
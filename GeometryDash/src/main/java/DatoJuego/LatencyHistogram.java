@@ -0,0 +1,85 @@
+package DatoJuego;
+
+
+
+/**
+ * A fixed-size histogram of durations in nanoseconds, used to find percentiles of frame times without storing every sample.
+ * Values are grouped into buckets that are 1/16th of a power of two wide, so any percentile is accurate to within about 6%,
+ * and recording never allocates. A histogram should only be written to by one thread.
+ */
+public class LatencyHistogram {
+
+	private static final int SUB_BUCKET_BITS = 4;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+	private final long[] counts = new long[64 * SUB_BUCKETS];
+	private long totalCount = 0;
+	private long max = 0;
+
+	/** Adds one duration (in nanoseconds) to the histogram. Negative values are counted as 0. */
+	public void record(long value) {
+		if (value < 0) {
+			value = 0;
+		}
+		counts[bucketIndex(value)]++;
+		totalCount++;
+		if (value > max) {
+			max = value;
+		}
+	}
+
+	/** Removes all recorded values. */
+	public void reset() {
+		for (int i = 0; i < counts.length; i++) {
+			counts[i] = 0;
+		}
+		totalCount = 0;
+		max = 0;
+	}
+
+	public long getCount() {
+		return totalCount;
+	}
+
+	/** Returns the largest value recorded, in nanoseconds. */
+	public long getMax() {
+		return max;
+	}
+
+	/**
+	 * Returns the value (in nanoseconds) that the given percentage of recorded values are smaller than or equal to.
+	 * @param percentile The percentile to find, from 0 to 100
+	 */
+	public long getValueAtPercentile(double percentile) {
+		if (totalCount == 0) {
+			return 0;
+		}
+		long target = Math.max(1, (long) Math.ceil(totalCount * Util.constrain(percentile, 0, 100) / 100));
+		long seen = 0;
+		for (int i = 0; i < counts.length; i++) {
+			seen += counts[i];
+			if (seen >= target) {
+				return Math.min(bucketHighValue(i), max);
+			}
+		}
+		return max;
+	}
+
+	private static int bucketIndex(long value) {
+		if (value < SUB_BUCKETS) {
+			return (int) value;
+		}
+		int shift = (63 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+		int subBucket = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+		return (shift + 1) * SUB_BUCKETS + subBucket;
+	}
+
+	private static long bucketHighValue(int index) {
+		if (index < SUB_BUCKETS) {
+			return index;
+		}
+		int shift = index / SUB_BUCKETS - 1;
+		long subBucket = index % SUB_BUCKETS;
+		return ((SUB_BUCKETS + subBucket + 1) << shift) - 1;
+	}
+}
@@ -8,8 +8,10 @@ import java.awt.Color;
 ***********************************************
 @Author Colin Toft
 @Date December 24th, 2019
-@Modified December 30th & 31st 2019, January 8th & 21st, 2020
+@Modified December 30th & 31st 2019, January 8th & 21st, 2020, October 17th, 2026
 @Description A class that stores information for a level, including the obstacles, music, colours and save data.
+When loaded, it also indexes the vertical runs of solid blocks in each column, so the block beneath or above a point can be found without scanning the column,
+and lists the pads, rings and portals from left to right, so the ones near the player can be found without scanning the cells around them.
 ***********************************************
 */
 public class Level {
@@ -25,6 +27,12 @@ public class Level {
 	public Obstacle[][] obstacles; // A 2D array of obstacles that make up the level
 	public int width, height; // The width and height of this level in blocks
 	
+	private int[] columnSpans; // Where the spans of each column start in spanBottoms and spanTops (the spans of column x are from columnSpans[x] to columnSpans[x + 1] - 1)
+	private int[] spanBottoms, spanTops; // The lowest and highest block of each vertical run of solid blocks, with the runs of each column in order from bottom to top
+	
+	private int[] interactionXs, interactionYs; // The coordinates of every pad, ring and portal, sorted by x and then by y
+	private Obstacle[] interactionObstacles; // The obstacle at each of those coordinates
+	
 	/** Method Name: Level()
 	 * @Author Colin Toft
 	 * @Date December 24th, 2019
@@ -128,8 +136,8 @@ public class Level {
 	/** Method Name: load()
 	 * @Author Colin Toft
 	 * @Date December 31st, 2019
-	 * @Modified N/A
-	 * @Description Loads the level data from a file into the 2D array of obstacles
+	 * @Modified October 17th, 2026
+	 * @Description Loads the level data from a file into the 2D array of obstacles, then indexes the solid blocks of each column and the pads, rings and portals
 	 * @Parameters N/A
 	 * @Returns N/A
 	 * Data Type: String, int, Obstacle
@@ -297,5 +305,283 @@ public class Level {
 				}
 			}
 		}
+		
+		indexSolidSpans();
+		indexInteractions();
+	}
+	
+	/** Method Name: indexInteractions()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Lists the coordinates of every obstacle the player interacts with by touching it (yellow pads, yellow rings and portals), going through the columns
+	 * from left to right and each column from bottom to top, so the list comes out sorted by x and then by y
+	 * @Parameters N/A
+	 * @Returns N/A
+	 * Data Type: int, Obstacle
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	private void indexInteractions() {
+		int count = 0;
+		for (int x = 0; x < width; x++) {
+			for (int y = 0; y < height; y++) {
+				if (isInteraction(obstacles[x][y])) {
+					count++;
+				}
+			}
+		}
+		
+		interactionXs = new int[count];
+		interactionYs = new int[count];
+		interactionObstacles = new Obstacle[count];
+		int i = 0;
+		for (int x = 0; x < width; x++) {
+			for (int y = 0; y < height; y++) {
+				if (isInteraction(obstacles[x][y])) {
+					interactionXs[i] = x;
+					interactionYs[i] = y;
+					interactionObstacles[i++] = obstacles[x][y];
+				}
+			}
+		}
+	}
+	
+	/** Method Name: isInteraction()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Returns whether an obstacle does something when the player touches it without being solid or deadly: a yellow pad, a yellow ring or a portal
+	 * @Parameters
+	 *      - Obstacle o: the obstacle, or null for an empty space
+	 * @Returns True if the obstacle is a pad, ring or portal, otherwise false
+	 * Data Type: Obstacle, boolean
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	private static boolean isInteraction(Obstacle o) {
+		return o == Obstacle.YELLOW_PAD || o == Obstacle.YELLOW_PAD_UPSIDE_DOWN || o == Obstacle.YELLOW_RING
+				|| o != null && (o.isCirclePortal() || o.isTrianglePortal() || o.isUpsideDownPortal() || o.isRightSideUpPortal());
+	}
+	
+	/** Method Name: findInteraction()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Finds the first pad, ring or portal in the list that is in a column or to the right of it. The search starts from the result of an earlier search,
+	 * moving forward one entry at a time (so following a player as they move right costs nothing extra per tick) or binary searching when the column is behind it (after a respawn)
+	 * @Parameters
+	 *      - int column: the x coordinate of the column in blocks
+	 *      - int from: the result of an earlier search, or 0
+	 * @Returns The index in the list of interactions, or getInteractionCount() if there are none at or to the right of the column
+	 * Data Type: int
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	public int findInteraction(int column, int from) {
+		int i = Math.max(0, Math.min(from, interactionXs.length));
+		if (i > 0 && interactionXs[i - 1] >= column) {
+			// The column is behind the earlier result, so search the entries before it
+			int low = 0, high = i - 1;
+			while (low < high) {
+				int middle = (low + high) >>> 1;
+				if (interactionXs[middle] >= column) {
+					high = middle;
+				} else {
+					low = middle + 1;
+				}
+			}
+			return low;
+		}
+		while (i < interactionXs.length && interactionXs[i] < column) {
+			i++;
+		}
+		return i;
+	}
+	
+	/** Method Name: getInteractionCount()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Returns how many pads, rings and portals are in the level
+	 * @Parameters N/A
+	 * @Returns The number of entries in the list of interactions
+	 * Data Type: int
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	public int getInteractionCount() {
+		return interactionXs.length;
+	}
+	
+	/** Method Name: getInteractionX()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Returns the x coordinate of a pad, ring or portal in the list of interactions
+	 * @Parameters
+	 *      - int i: the index in the list
+	 * @Returns The x coordinate in blocks
+	 * Data Type: int
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	public int getInteractionX(int i) {
+		return interactionXs[i];
+	}
+	
+	/** Method Name: getInteractionY()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Returns the y coordinate of a pad, ring or portal in the list of interactions
+	 * @Parameters
+	 *      - int i: the index in the list
+	 * @Returns The y coordinate in blocks
+	 * Data Type: int
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	public int getInteractionY(int i) {
+		return interactionYs[i];
+	}
+	
+	/** Method Name: getInteractionObstacle()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Returns which pad, ring or portal an entry in the list of interactions is
+	 * @Parameters
+	 *      - int i: the index in the list
+	 * @Returns The obstacle
+	 * Data Type: Obstacle, int
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	public Obstacle getInteractionObstacle(int i) {
+		return interactionObstacles[i];
+	}
+	
+	/** Method Name: indexSolidSpans()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Finds every vertical run of solid blocks in each column and stores the lowest and highest block of each run in order, for getSolidBlockBelow() and getSolidBlockAbove()
+	 * @Parameters N/A
+	 * @Returns N/A
+	 * Data Type: int, Obstacle
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	private void indexSolidSpans() {
+		// Count the runs first so the arrays can be made at their exact size
+		columnSpans = new int[width + 1];
+		int spanCount = 0;
+		for (int x = 0; x < width; x++) {
+			columnSpans[x] = spanCount;
+			for (int y = 0; y < height; y++) {
+				if (isSolid(x, y) && !isSolid(x, y - 1)) {
+					spanCount++;
+				}
+			}
+		}
+		columnSpans[width] = spanCount;
+		
+		spanBottoms = new int[spanCount];
+		spanTops = new int[spanCount];
+		int span = 0;
+		for (int x = 0; x < width; x++) {
+			for (int y = 0; y < height; y++) {
+				if (isSolid(x, y)) {
+					if (!isSolid(x, y - 1)) {
+						spanBottoms[span] = y; // A new run starts here
+					}
+					if (!isSolid(x, y + 1)) {
+						spanTops[span++] = y; // The run ends here
+					}
+				}
+			}
+		}
+	}
+	
+	/** Method Name: isSolid()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Returns whether there is a solid obstacle at a position in the level, treating positions outside the level as empty
+	 * @Parameters
+	 *      - int x: the x coordinate of the position in blocks
+	 *      - int y: the y coordinate of the position in blocks
+	 * @Returns True if there is a solid obstacle at the position, otherwise false
+	 * Data Type: int, Obstacle, boolean
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	private boolean isSolid(int x, int y) {
+		return x >= 0 && x < width && y >= 0 && y < height && obstacles[x][y] != null && obstacles[x][y].isSolid();
+	}
+	
+	/** Method Name: getSolidBlockBelow()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Finds the highest solid block in a column at or below a height, by binary searching the runs of solid blocks in the column
+	 * @Parameters
+	 *      - int x: the column in blocks
+	 *      - int y: the highest block to look at
+	 * @Returns The y coordinate of the block, or -1 if there is no solid block there (or the column is outside the level)
+	 * Data Type: int
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	public int getSolidBlockBelow(int x, int y) {
+		if (x < 0 || x >= width) {
+			return -1;
+		}
+		// Find the last run in the column that starts at or below y
+		int low = columnSpans[x], high = columnSpans[x + 1] - 1, found = -1;
+		while (low <= high) {
+			int middle = (low + high) >>> 1;
+			if (spanBottoms[middle] <= y) {
+				found = middle;
+				low = middle + 1;
+			} else {
+				high = middle - 1;
+			}
+		}
+		// y is either inside that run or above its top
+		return found < 0 ? -1 : Math.min(y, spanTops[found]);
+	}
+	
+	/** Method Name: getSolidBlockAbove()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Finds the lowest solid block in a column at or above a height, by binary searching the runs of solid blocks in the column
+	 * @Parameters
+	 *      - int x: the column in blocks
+	 *      - int y: the lowest block to look at
+	 * @Returns The y coordinate of the block, or -1 if there is no solid block there (or the column is outside the level)
+	 * Data Type: int
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	public int getSolidBlockAbove(int x, int y) {
+		if (x < 0 || x >= width) {
+			return -1;
+		}
+		// Find the first run in the column that ends at or above y
+		int low = columnSpans[x], high = columnSpans[x + 1] - 1, found = -1;
+		while (low <= high) {
+			int middle = (low + high) >>> 1;
+			if (spanTops[middle] >= y) {
+				found = middle;
+				high = middle - 1;
+			} else {
+				low = middle + 1;
+			}
+		}
+		// y is either inside that run or below its bottom
+		return found < 0 ? -1 : Math.max(y, spanBottoms[found]);
 	}
 }
@@ -0,0 +1,216 @@
+package DatoJuego;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+
+
+/**
+***********************************************
+@Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+@Date October 17th, 2026
+@Modified N/A
+@Description Pre-drawn images of a level's obstacles, each covering a fixed number of columns of blocks (a chunk) and the full height of the level.
+Since obstacles never move, a LevelView can draw the two or three chunks in view instead of every obstacle on screen.
+Chunks are drawn on a background thread, ahead of where the player is, and the least recently used ones are dropped once they take up too much memory.
+All methods except the constructor must be called from the thread that draws the level.
+***********************************************
+*/
+public class LevelChunkCache {
+
+	public static final int chunkWidth = 16; // The number of columns of blocks in one chunk
+	private static final long maxBytes = 64L * 1024 * 1024; // Roughly how much memory the chunks may take up before the least recently used are dropped
+	private static final int minChunks = 4; // The fewest chunks kept, even if they take up more memory, so the ones in view are never dropped
+
+	// Draws chunks for every level, one at a time, without holding up the game loop
+	private static final ExecutorService renderer = Executors.newSingleThreadExecutor(new ThreadFactory() {
+		@Override
+		public Thread newThread(Runnable r) {
+			Thread thread = new Thread(r, "Level Chunk Renderer");
+			thread.setDaemon(true);
+			return thread;
+		}
+	});
+
+	private Level level; // The level whose obstacles are drawn
+	private ObstacleAtlas atlas; // The obstacle images, at the block size the chunks are drawn at
+	private double blockSize; // The width of one block in pixels
+	private int imageWidth, imageHeight; // The size of each chunk image in pixels
+	private int baseline; // The y coordinate in a chunk image of the bottom of the lowest row of blocks
+	private int maxChunks; // The most chunks that fit in maxBytes (but never fewer than minChunks)
+	private Integer[] keys; // The map key of each chunk, made once so that looking up a chunk every frame never boxes its index
+
+	private LinkedHashMap<Integer, BufferedImage> chunks; // The finished chunks by index, from least to most recently used
+	private HashSet<Integer> requested = new HashSet<Integer>(); // The chunks that have been handed to the renderer but not picked up yet
+	private ConcurrentLinkedQueue<Object[]> finished = new ConcurrentLinkedQueue<Object[]>(); // Chunks drawn by the renderer thread, as {Integer index, BufferedImage image}
+	private volatile boolean disposed = false; // Set once the cache is no longer used, so chunks that have not been drawn yet are skipped
+
+	/** Method Name: LevelChunkCache()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified October 17th, 2026
+	 * @Description Creates an empty cache of a level's obstacles at a block size. Obstacle images can be taller than a block or hang below their row,
+	 * so each chunk image has room for the tallest image above the top row and below the bottom row
+	 * @Parameters
+	 *      - Level level: the level whose obstacles are drawn (it must already be loaded)
+	 *      - ObstacleAtlas atlas: the obstacle images, scaled to the block size
+	 *      - double blockSize: the width of one block in pixels
+	 * @Returns N/A
+	 * Data Type: Level, ObstacleAtlas, Obstacle, double, int, Integer, LinkedHashMap
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	public LevelChunkCache(Level level, ObstacleAtlas atlas, double blockSize) {
+		this.level = level;
+		this.atlas = atlas;
+		this.blockSize = blockSize;
+
+		int margin = 0;
+		for (Obstacle o: Obstacle.values()) {
+			margin = Math.max(margin, Math.max(atlas.getWidth(o), atlas.getHeight(o)));
+		}
+		imageWidth = (int) Math.ceil(chunkWidth * blockSize) + margin;
+		imageHeight = (int) Math.ceil(level.height * blockSize) + margin * 2;
+		baseline = imageHeight - margin;
+		maxChunks = (int) Math.max(minChunks, maxBytes / (4L * imageWidth * imageHeight));
+		keys = new Integer[(level.width + chunkWidth - 1) / chunkWidth];
+		for (int i = 0; i < keys.length; i++) {
+			keys[i] = i;
+		}
+
+		// Iterate from least to most recently used, and drop the oldest chunk whenever there are too many
+		chunks = new LinkedHashMap<Integer, BufferedImage>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Integer, BufferedImage> eldest) {
+				return size() > maxChunks;
+			}
+		};
+	}
+
+	/** Method Name: get()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified October 17th, 2026
+	 * @Description Returns the image of a chunk if it has been drawn, or asks for it to be drawn and returns null so the caller can draw its obstacles directly in the meantime.
+	 * The top left of the image goes at the pixel coordinates of the left of the chunk's first column, and getBaseline() pixels above the bottom of the lowest row
+	 * @Parameters
+	 *      - int chunk: the index of the chunk (the column of its first block divided by chunkWidth)
+	 * @Returns The image of the chunk, or null if it is not ready yet (or is outside the level)
+	 * Data Type: int, Integer, BufferedImage
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	public BufferedImage get(int chunk) {
+		collectFinished();
+		if (chunk < 0 || chunk >= keys.length) {
+			return null;
+		}
+		BufferedImage image = chunks.get(keys[chunk]);
+		if (image == null) {
+			request(chunk);
+		}
+		return image;
+	}
+
+	/** Method Name: prefetch()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified October 17th, 2026
+	 * @Description Asks for a chunk that is about to come into view to be drawn, if it has not been already
+	 * @Parameters
+	 *      - int chunk: the index of the chunk
+	 * @Returns N/A
+	 * Data Type: int, Integer
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	public void prefetch(int chunk) {
+		if (chunk >= 0 && chunk < keys.length && !chunks.containsKey(keys[chunk])) {
+			request(chunk);
+		}
+	}
+
+	/** Hands a chunk (which must be inside the level) to the renderer thread, unless it is already on its way. */
+	private void request(final int chunk) {
+		if (!requested.add(keys[chunk])) {
+			return;
+		}
+		renderer.execute(new Runnable() {
+			@Override
+			public void run() {
+				if (!disposed) {
+					finished.add(new Object[] {keys[chunk], render(chunk)});
+				}
+			}
+		});
+	}
+
+	/** Moves the chunks that the renderer thread has finished into the cache. */
+	private void collectFinished() {
+		Object[] chunk;
+		while ((chunk = finished.poll()) != null) {
+			requested.remove(chunk[0]);
+			chunks.put((Integer) chunk[0], (BufferedImage) chunk[1]);
+		}
+	}
+
+	/** Method Name: render()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Draws every obstacle in a chunk into a new image, in the same order and at the same offsets as LevelView draws them one by one
+	 * @Parameters
+	 *      - int chunk: the index of the chunk
+	 * @Returns The image of the chunk
+	 * Data Type: BufferedImage, Graphics2D, Obstacle, int
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	private BufferedImage render(int chunk) {
+		BufferedImage image = Util.getEmptyImage(imageWidth, imageHeight, false);
+		Graphics2D g = image.createGraphics();
+		int firstColumn = chunk * chunkWidth;
+		for (int x = firstColumn; x < Math.min(firstColumn + chunkWidth, level.width); x++) {
+			int pixelX = (int) Math.round((x - firstColumn) * blockSize);
+			for (int y = 0; y < level.height; y++) {
+				Obstacle o = level.obstacles[x][y];
+				if (o == Obstacle.YELLOW_PAD_UPSIDE_DOWN) {
+					atlas.draw(g, o, pixelX, baseline - (int) Math.round((y + 1) * blockSize));
+				} else if (o != null) {
+					atlas.draw(g, o, pixelX, baseline - (int) Math.round(y * blockSize) - atlas.getHeight(o));
+				}
+			}
+		}
+		g.dispose();
+		return image;
+	}
+
+	/** Returns the y coordinate in a chunk image of the bottom of the lowest row of blocks. */
+	public int getBaseline() {
+		return baseline;
+	}
+
+	/** Method Name: dispose()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Drops every chunk and stops drawing the ones that were requested, once the cache is replaced or the level is closed
+	 * @Parameters N/A
+	 * @Returns N/A
+	 * Data Type: boolean, LinkedHashMap
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	public void dispose() {
+		disposed = true;
+		chunks.clear();
+		finished.clear();
+	}
+}
@@ -0,0 +1,244 @@
+package DatoJuego;
+
+import java.awt.Color;
+import java.awt.Graphics;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.ForkJoinTask;
+
+
+
+/**
+***********************************************
+@Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+@Date October 17th, 2026
+@Modified N/A
+@Description Every image a LevelView needs to draw a level at one size in pixels (background, ground, ceiling, player, obstacles and checkpoints).
+The images are made in parallel on a fork-join pool when the set is created, and a LevelView swaps a whole set in at once, so a frame is never drawn with images of two different sizes.
+After it is created, a set must only be used by the thread that draws the level, except for the rotated player images, which are remade in the background and swapped in when the filtering changes.
+***********************************************
+*/
+public class LevelImages {
+
+	public final int width, height; // The size in pixels that the level is drawn at with these images
+	public final double blockSize; // The width of one block in pixels
+	public final int groundTileWidth; // The width of one ground tile in pixels
+
+	public AcceleratedLayer backgroundLayer, groundLayer, ceilingLayer; // Opaque images for the background of the level, kept in video memory when possible
+	public BufferedImage playerCircleImage, playerTriangleImage, playerTriangleUpsideDownImage; // Player images
+	public volatile RotationCache playerCircleRotations, playerTriangleRotations, playerTriangleUpsideDownRotations; // Rotated copies of the player images, drawn instead of rotating the images every frame
+	private boolean rotationsBilinear; // The filtering of the newest rotated player images that were asked for, which may still be being made
+	public BufferedImage checkpointImage; // Image for the practice mode checkpoints
+	public ObstacleAtlas obstacleAtlas; // The images of every obstacle type, packed into one image
+	public LevelChunkCache obstacleChunks; // Pre-drawn images of the level's obstacles, a few columns at a time
+
+	/** Method Name: LevelImages()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Loads and scales every image needed to draw a level at a size (moved here from LevelView.generateImage()). The background, ground, ceiling,
+	 * player, obstacle and checkpoint images are made at the same time as separate fork-join tasks, which run in the common pool when called from outside a fork-join pool
+	 * @Parameters
+	 *      - Level level: the level to draw (it must already be loaded)
+	 *      - int width: the width in pixels that the level will be drawn at
+	 *      - int height: the height in pixels that the level will be drawn at
+	 *      - double groundHeight: the fraction of the height that the ground takes up
+	 *      - boolean bilinear: whether to smooth the rotated player images with bilinear filtering
+	 * @Returns N/A
+	 * Data Type: Level, BufferedImage, Graphics, Color, int, double, boolean, ForkJoinTask, AcceleratedLayer, ObstacleAtlas, LevelChunkCache, RotationCache
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	public LevelImages(final Level level, final int width, final int height, double groundHeight, final boolean bilinear) {
+		this.width = width;
+		this.height = height;
+		rotationsBilinear = bilinear;
+		blockSize = height / LevelSimulation.levelHeight;
+		groundTileWidth = (int) (height * groundHeight);
+
+		// The background color is laid over the background, ground and ceiling images
+		final Color bgColor = new Color(level.backgroundColor.getRed(), level.backgroundColor.getGreen(), level.backgroundColor.getBlue(), 205);
+
+		ForkJoinTask.invokeAll(
+			ForkJoinTask.adapt(new Runnable() {
+				@Override
+				public void run() {
+					// Load Background Image (the background images are opaque, which makes them faster to draw)
+					BufferedImage originalBackground = Util.loadImageFromFile(LevelImages.class, "backgrounds/background1classic.png");
+					BufferedImage backgroundImage = Util.getOpaqueImage(width, width);
+					Graphics g = backgroundImage.createGraphics();
+					g.drawImage(originalBackground, 0, 0, backgroundImage.getWidth(), backgroundImage.getHeight(), null);
+					g.setColor(bgColor);
+					g.fillRect(0, 0, backgroundImage.getWidth(), backgroundImage.getHeight());
+					g.dispose();
+					backgroundLayer = new AcceleratedLayer(backgroundImage);
+				}
+			}),
+			ForkJoinTask.adapt(new Runnable() {
+				@Override
+				public void run() {
+					groundLayer = new AcceleratedLayer(createTiledImage("backgrounds/ground1.png", bgColor));
+				}
+			}),
+			ForkJoinTask.adapt(new Runnable() {
+				@Override
+				public void run() {
+					ceilingLayer = new AcceleratedLayer(createTiledImage("backgrounds/ceiling1.png", bgColor));
+				}
+			}),
+			ForkJoinTask.adapt(new Runnable() {
+				@Override
+				public void run() {
+					// Load each player image, then rotate it once here, so drawing the player each frame only has to pick the closest rotation
+					playerCircleImage = loadPlayerImage("players/PlayerCircle.png", 1);
+					playerCircleRotations = new RotationCache(playerCircleImage, bilinear);
+				}
+			}),
+			ForkJoinTask.adapt(new Runnable() {
+				@Override
+				public void run() {
+					playerTriangleImage = loadPlayerImage("players/PlayerTriangle.png", 1.5);
+					playerTriangleRotations = new RotationCache(playerTriangleImage, bilinear);
+				}
+			}),
+			ForkJoinTask.adapt(new Runnable() {
+				@Override
+				public void run() {
+					playerTriangleUpsideDownImage = loadPlayerImage("players/playerTriangleUpsideDown.png", 1.5);
+					playerTriangleUpsideDownRotations = new RotationCache(playerTriangleUpsideDownImage, bilinear);
+				}
+			}),
+			ForkJoinTask.adapt(new Runnable() {
+				@Override
+				public void run() {
+					// Load Obstacle Images into a single atlas, then start a new cache of pre-drawn chunks of obstacles at this block size
+					obstacleAtlas = new ObstacleAtlas(blockSize);
+					obstacleChunks = new LevelChunkCache(level, obstacleAtlas, blockSize);
+				}
+			}),
+			ForkJoinTask.adapt(new Runnable() {
+				@Override
+				public void run() {
+					// Load checkpoint image
+					BufferedImage image = Util.loadImageFromFile(LevelImages.class, "other/checkpoint.png");
+					checkpointImage = Util.scaleImage(image, blockSize * 0.5 / image.getWidth());
+				}
+			}));
+	}
+
+	/** Method Name: createTiledImage()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Draws a ground or ceiling tile image multiple times to fill up an image wider than the view (one pixel taller than a tile, so rounding never leaves a gap below it),
+	 * then lays the background color over it, followed by a mostly transparent layer of black to make it slightly darker
+	 * @Parameters
+	 *      - String filename: the tile image to load
+	 *      - Color bgColor: the color to lay over the tiles
+	 * @Returns The opaque tiled image
+	 * Data Type: BufferedImage, Graphics, Color, String, int
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	private BufferedImage createTiledImage(String filename, Color bgColor) {
+		BufferedImage tile = Util.loadImageFromFile(LevelImages.class, filename);
+		BufferedImage image = Util.getOpaqueImage((width / groundTileWidth + 2) * groundTileWidth, groundTileWidth + 1);
+		Graphics g = image.createGraphics();
+		for (int i = 0; i < image.getWidth(); i += groundTileWidth) {
+			g.drawImage(tile, i, 0, groundTileWidth, image.getHeight(), null);
+		}
+		g.setColor(bgColor);
+		g.fillRect(0, 0, image.getWidth(), image.getHeight());
+		g.setColor(new Color(0, 0, 0, 50));
+		g.fillRect(0, 0, image.getWidth(), image.getHeight());
+		g.dispose();
+		return image;
+	}
+
+	/** Method Name: loadPlayerImage()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Loads a player image and scales it to the player's height in pixels
+	 * @Parameters
+	 *      - String filename: the player image to load
+	 *      - double aspectRatio: how many times wider than it is tall the image should be
+	 * @Returns The scaled player image
+	 * Data Type: BufferedImage, String, double, int
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	private BufferedImage loadPlayerImage(String filename, double aspectRatio) {
+		BufferedImage image = Util.loadImageFromFile(LevelImages.class, filename);
+		return Util.scaleImage(image, (int) (blockSize * aspectRatio * LevelSimulation.playerWidth), (int) (blockSize * LevelSimulation.playerWidth), false);
+	}
+	
+	/** Method Name: requestPlayerRotations()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Makes sure the rotated copies of the player images use the given filtering. If they do not, and have not already been asked for, new copies are made on an
+	 * ImageRegenerator thread (which takes too long to do in the middle of a frame) and swapped in once they are finished. Called by LevelView.draw() every frame
+	 * @Parameters
+	 *      - boolean bilinear: whether the rotated images should be smoothed with bilinear filtering
+	 * @Returns N/A
+	 * Data Type: boolean, ImageRegenerator
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	public synchronized void requestPlayerRotations(final boolean bilinear) {
+		if (bilinear == rotationsBilinear) {
+			return;
+		}
+		rotationsBilinear = bilinear;
+		ImageRegenerator.execute(new Runnable() {
+			@Override
+			public void run() {
+				generatePlayerRotations(bilinear);
+			}
+		});
+	}
+
+	/** Method Name: generatePlayerRotations()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified October 17th, 2026
+	 * @Description Makes the rotated copies of the player images that LevelView.draw() picks from, and replaces the previous ones with them (moved here from LevelView).
+	 * The new copies are dropped if different filtering was asked for while they were being made, since the copies for that request replace them instead
+	 * @Parameters
+	 *      - boolean bilinear: whether to smooth the rotated images with bilinear filtering
+	 * @Returns N/A
+	 * Data Type: RotationCache, boolean
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	private void generatePlayerRotations(boolean bilinear) {
+		RotationCache circle = new RotationCache(playerCircleImage, bilinear);
+		RotationCache triangle = new RotationCache(playerTriangleImage, bilinear);
+		RotationCache triangleUpsideDown = new RotationCache(playerTriangleUpsideDownImage, bilinear);
+		synchronized (this) {
+			if (bilinear == rotationsBilinear) {
+				playerCircleRotations = circle;
+				playerTriangleRotations = triangle;
+				playerTriangleUpsideDownRotations = triangleUpsideDown;
+			}
+		}
+	}
+
+	/** Method Name: flush()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Releases the video memory used by the background images and stops pre-drawing obstacles, once the set has been replaced or the level is closed
+	 * @Parameters N/A
+	 * @Returns N/A
+	 * Data Type: AcceleratedLayer, LevelChunkCache
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	public void flush() {
+		backgroundLayer.flush();
+		groundLayer.flush();
+		ceilingLayer.flush();
+		obstacleChunks.dispose();
+	}
+}
@@ -0,0 +1,53 @@
+package DatoJuego;
+
+
+
+/**
+***********************************************
+@Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+@Date October 17th, 2026
+@Modified N/A
+@Description A snapshot of everything LevelView needs to draw one frame, published by the update thread after every update so that the level can be drawn on another thread.
+***********************************************
+*/
+public class LevelRenderState {
+
+	public long time; // The System.nanoTime() that this state represents
+	public double dt; // The length in seconds of the update that produced this state
+
+	public double prevPlayerX, prevPlayerY; // The player's coordinates before the update (in blocks)
+	public double playerX, playerY; // The player's coordinates after the update (in blocks)
+	public double playerRotation; // The player's rotation in radians
+	public double groundHeight; // Fraction of the height of the screen that the ground takes up
+
+	public boolean triangleMode; // Whether the player is in triangle mode
+	public boolean upsideDownMode; // Whether the player is in upside down mode
+	public boolean hasDied; // Whether the player has died
+	public boolean hasBeatLevel; // Whether the player has beat the level
+	public double winTimer; // Seconds since the player beat the level
+
+	public boolean practiceMode; // Whether the level is being played in practice mode
+	public double checkpointX, checkpointY; // The most recent practice mode checkpoint (in blocks)
+	public double prevCheckpointX, prevCheckpointY; // The previous practice mode checkpoint (in blocks)
+
+	public double progress; // The player's progress through the level from 0 to 1
+
+	/** Method Name: getInterpolation()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Calculates how far between the previous and current player positions a frame drawn at the given time should be
+	 * @Parameters
+	 *      - long now: the System.nanoTime() that the frame is being drawn at
+	 * @Returns A value from 0 (previous position) to 1 (current position)
+	 * Data Type: long, double
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	public double getInterpolation(long now) {
+		if (dt <= 0) {
+			return 1;
+		}
+		return Util.constrain((now - time) / (dt * 1000000000.0), 0, 1);
+	}
+}
@@ -0,0 +1,1311 @@
+package DatoJuego;
+
+
+
+/**
+***********************************************
+@Author Colin Toft
+@Date December 30th, 2019
+@Modified October 17th, 2026
+@Description The physics and rules of a level, separated from LevelView so that they can run without a window: player movement, collisions, modes, deaths, practice mode checkpoints and completing the level.
+A simulation is stepped one tick at a time with step(), and tells its SimulationListener about events like deaths and music cues instead of playing sounds itself.
+Collisions are checked with the analytic tests in Collision, which need neither a display nor any allocation.
+When stepped with the fixed tick from step() the simulation is deterministic (trigonometry goes through StrictMath), so the same inputs on the same ticks always give the same result on any computer.
+***********************************************
+*/
+public class LevelSimulation {
+
+	public static final double xSpeed = 10.386; // The constant speed at which the player moves to the right, in blocks per second (taken from a forum about geometry dash physics: http://gdforum.freeforums.net/thread/48749/p1kachu-presents-physics-geometry-dash)
+	public static final double levelHeight = 11; // Height of the level in blocks
+	public static final double playerWidth = 1; // The width of the player in blocks
+	public static final double winAnimationLength = 1; // The length of the level completion animation in seconds
+	public static final int ticksPerSecond = 240; // The number of fixed ticks per second in deterministic mode
+	public static final double tickLength = 1.0 / ticksPerSecond; // The length of one fixed tick in seconds
+	
+	private final double baseGroundHeight = 0.3; // The starting height of the ground (as a fraction of the screen height)
+	private final double groundHeightMoveSpeed = 0.04; // The speed at which the ground height will move up and down
+	private final double groundHeightThreshold = 0.45; // If the player is above this coordinate (fraction of screen height)
+	
+	private final double playerRotationSpeed = xSpeed / (playerWidth * 0.5); // The speed that the player rotates at in radians/s
+	
+	private final double gravity = 0.876 * xSpeed * xSpeed; // The rate at which gravity affects the y speed (taken from a forum about geometry dash physics)
+	private final double minYSpeed = -2.6 * xSpeed; // The minimum y speed, or fastest rate at which the player can fall (taken from a forum about geometry dash physics)
+	private final double jumpYSpeed = 2 * xSpeed; // The value that the y speed is set to when the player jumps (taken from a forum about geometry dash physics)
+	private final double yellowPadYSpeed = 2.77 * xSpeed;
+	private final double triangleMaxYSpeed = 1.4 * xSpeed; // The maximum y speed that a player can reach when in triangle mode (found with trial and error)
+	private final double triangleMinYSpeed = -1 * xSpeed; // The minimum y speed that a player can reach when in triangle mode (found with trial and error)
+	private final double triangleYSpeedIncrease = 0.4 * xSpeed * xSpeed; // The rate at which y speed increases when the player holds down with the mouse or space bar (found with trial and error)
+	
+	private Level level; // The level that is being simulated
+	private SimulationListener listener; // Receives events such as deaths and music cues
+	private long tick = 0; // How many times step() has been called
+	private int interactionCursor = 0; // Where the pads, rings and portals near the player start in the level's list of them, kept between ticks so it only has to move a little each tick
+	private double maxStepLength = tickLength; // The longest time in seconds that the player is moved in one go. Longer steps are split into equal sub-steps, so the player cannot skip over obstacles
+	
+	private double groundHeight = baseGroundHeight; // Fraction of the height of the screen that the ground takes up
+	private double playerRotation = 0; // The current player rotation
+	private double playerX = -15; // The player's x coordinate in blocks (0 is the start of the level)
+	private double playerY = 0; // The player's y coordinate in blocks (0 is ground level)
+	private double lastGroundY = 0; // The y coordinate of the last time the player was on the ground (in blocks)
+	private double ySpeed = 0; // The current y speed of the player in blocks per second
+	
+	private boolean hasDied = false; // Whether or not the player has died
+	private double deathTimer = 0; // A timer that counts up in seconds after the player has died
+	private boolean hasBeatLevel = false; // Whether or not the player has beat the level
+	private double winTimer = 0; // A timer that counts up in seconds after the player has beat the level
+	
+	private boolean jumping = false; // Whether the user is currently jumping (pressing space or clicking)
+	private boolean holding = false; // Whether the user is holding down the mouse
+	private int jumpCount = 0; // How many times the user has jumped
+	private boolean hasUsedTriangleMode = false; // Whether or not the user has used triangle mode so far
+	
+	private boolean playingMusic = false; // Whether music is currently playing
+	
+	private boolean practiceMode = false; // Whether the player is currently in practice mode
+	private double checkpointX = playerX; // The x coordinate of the most recent practice mode checkpoint, in blocks
+	private double checkpointY = playerY; // The y coordinate of the most recent practice mode checkpoint, in blocks
+	private double checkpointYSpeed = ySpeed; // The y speed of the player at the most recent practice mode checkpoint, in blocks per second
+	private boolean checkpointTriangleMode = false; // Whether the player was in triangle mode at the most recent checkpoint
+	private boolean checkpointUpsideDownMode = false; // Whether the player was in upside down mode at the most recent checkpoint
+	private int checkpointDeathCount = 0; // How many times the player has died close to the most recent checkpoint
+	private double prevCheckpointX = checkpointX; // The x coordinate of the previous practice mode checkpoint, in blocks
+	private double prevCheckpointY = checkpointY; // The y coordinate of the previous practice mode checkpoint, in blocks
+	private double prevCheckpointYSpeed = checkpointYSpeed; // The y speed of the player at the previous practice mode checkpoint, in blocks per second
+	private boolean prevCheckpointTriangleMode = checkpointTriangleMode; // Whether the player was in triangle mode at the previous checkpoint
+	private boolean prevCheckpointUpsideDownMode = checkpointUpsideDownMode; // Whether the player was in upside down mode at the previous checkpoint
+	
+	private boolean triangleMode = false; // Whether the player is currently in triangle mode
+	private boolean upsideDownMode = false; // Whether the player is currently in upside down mode
+	
+	/** Method Name: LevelSimulation()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Creates a new simulation of a level, with the player just to the left of the start of the level
+	 * @Parameters
+	 *      - Level level: the level to simulate (it must already be loaded)
+	 *      - SimulationListener listener: receives the events of the simulation, or null to ignore them
+	 * @Returns N/A
+	 * Data Type: Level, SimulationListener
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	public LevelSimulation(Level level, SimulationListener listener) {
+		this.level = level;
+		setListener(listener);
+	}
+	
+	/** Method Name: LevelSimulation()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Creates a new simulation of a level that does not report its events to anything
+	 * @Parameters
+	 *      - Level level: the level to simulate (it must already be loaded)
+	 * @Returns N/A
+	 * Data Type: Level
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	public LevelSimulation(Level level) {
+		this(level, null);
+	}
+	
+	/** Method Name: setListener()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Sets the object that receives the events of this simulation
+	 * @Parameters
+	 *      - SimulationListener listener: the new listener, or null to ignore events
+	 * @Returns N/A
+	 * Data Type: SimulationListener
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	public void setListener(SimulationListener listener) {
+		if (listener == null) {
+			listener = new SimulationListener() {};
+		}
+		this.listener = listener;
+	}
+	
+	/** Method Name: simulate()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Steps the simulation with input from a SimulationInput until the player dies, beats the level or the tick limit is reached
+	 * @Parameters
+	 *      - SimulationInput input: decides whether the jump button is held down on each tick
+	 *      - double dt: the length of each tick in seconds
+	 *      - int maxTicks: the largest number of ticks to simulate
+	 * @Returns The number of ticks that were simulated
+	 * Data Type: SimulationInput, double, int, boolean
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	public int simulate(SimulationInput input, double dt, int maxTicks) {
+		int ticks = 0;
+		while (ticks < maxTicks && !hasDied && !hasBeatLevel) {
+			setJumping(input.isJumping(this));
+			step(dt);
+			ticks++;
+		}
+		return ticks;
+	}
+	
+	/** Method Name: setJumping()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Presses or releases the jump button (space or the mouse in the game). Presses are ignored after the player has died or beaten the level
+	 * @Parameters
+	 *      - boolean pressed: true to press the jump button, false to release it
+	 * @Returns N/A
+	 * Data Type: boolean
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	public void setJumping(boolean pressed) {
+		if (pressed) {
+			if (!hasBeatLevel && !hasDied) {
+				jumping = true;
+			}
+		} else {
+			jumping = false;
+			holding = false;
+		}
+	}
+	
+	/** Method Name: step()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Advances the simulation by one fixed tick. Stepping only with this method keeps the simulation deterministic, which replays depend on
+	 * @Parameters N/A
+	 * @Returns N/A
+	 * Data Type: double
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	public void step() {
+		step(tickLength);
+	}
+	
+	/** Method Name: step()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Advances the simulation by one tick of any length. A tick longer than the maximum step length is simulated as several equal sub-steps,
+	 * so a long tick (such as one after a pause or at a low update rate) checks for collisions along the way instead of only at the end. Fixed ticks are never split with the default maximum
+	 * @Parameters
+	 *      - double dt: The length of the tick in seconds
+	 * @Returns N/A
+	 * Data Type: double, int
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	public void step(double dt) {
+		tick++;
+		
+		int subSteps = (int) Math.ceil(dt / maxStepLength);
+		if (subSteps <= 1) {
+			subStep(dt);
+		} else {
+			for (int i = 0; i < subSteps; i++) {
+				subStep(dt / subSteps);
+			}
+		}
+	}
+	
+	/** Method Name: setMaxStepLength()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Sets the longest time that step() simulates in one go before splitting a tick into sub-steps. The default is one fixed tick.
+	 * Shorter lengths cost more time per tick, and a recording only replays exactly with the maximum step length it was recorded with
+	 * @Parameters
+	 *      - double maxStepLength: the longest sub-step in seconds, or Double.POSITIVE_INFINITY to never split ticks
+	 * @Returns N/A
+	 * Data Type: double
+	 * Dependencies: N/A
+	 * Throws/Exceptions: IllegalArgumentException if the length is not positive
+	 */
+	public void setMaxStepLength(double maxStepLength) {
+		if (!(maxStepLength > 0)) {
+			throw new IllegalArgumentException("The maximum step length must be positive: " + maxStepLength);
+		}
+		this.maxStepLength = maxStepLength;
+	}
+	
+	/** Method Name: getMaxStepLength()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Returns the longest time that step() simulates in one go
+	 * @Parameters N/A
+	 * @Returns The maximum step length in seconds
+	 * Data Type: double
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	public double getMaxStepLength() {
+		return maxStepLength;
+	}
+	
+	/** Method Name: subStep()
+	 * @Author Colin Toft
+	 * @Date December 30th, 2019
+	 * @Modified January 7th, 9th, 10th, 13th, 14th, 15th, 17th, 19th, 21st & 23rd, 2020, October 17th, 2026
+	 * @Description Advances the simulation by part or all of a tick, including updating player position, music cues and calculating physics (moved here from LevelView.update(), then from step())
+	 * @Parameters
+	 *      - double dt: The length of the sub-step in seconds
+	 * @Returns N/A
+	 * Data Type: boolean, double, int
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	private void subStep(double dt) {
+		if (!triangleMode) {
+			// If the player is in circle mode, rotate them to simulate rolling along the ground
+			playerRotation += (upsideDownMode ? -playerRotationSpeed : playerRotationSpeed) * dt;
+			playerRotation %= 2 * Math.PI;
+		}
+		
+		if (!hasDied && !hasBeatLevel) {
+			// Move the player to the right
+			playerX += xSpeed * dt;
+		}
+		
+		
+		boolean justLanded = false;
+		double minY = getMinY(); // Find the y coordinate of the ground or obstacle beneath the player
+		double maxY = getMaxY(); // Find the y coordinate of the ground or obstacle beneath the player
+		
+		if ((playerY > minY || ySpeed != 0) && !hasBeatLevel) { // If the player is in the air
+			if (!triangleMode) {
+				// If the player is in circle mode, simulate gravity by lowering their ySpeed
+				ySpeed = Math.max(ySpeed - gravity * dt * (upsideDownMode ? -1 : 1), minYSpeed);
+			} else if (!jumping) {
+				// If the player is in triangle mode but not holding the mouse or space bar, their y speed is also lowered
+				if (upsideDownMode) {
+					ySpeed = Math.min(ySpeed + triangleYSpeedIncrease * dt, triangleMode ? -triangleMinYSpeed : -minYSpeed);
+				} else {
+					ySpeed = Math.max(ySpeed - triangleYSpeedIncrease * dt, triangleMode ? triangleMinYSpeed : minYSpeed);
+				}
+			}
+			
+			// Adjust the player's y coordinate based on their y speed
+			playerY += ySpeed * dt;
+		}
+				
+		boolean circleHitCeiling = false; // True if the player is in circle mode and has gone above the max y coordinate (ran into an obstacle above them)
+
+		if (playerY <= minY && ySpeed <= 0) { // If the player is on the ground
+			justLanded = ySpeed < 0; // If the y speed is smaller than 0, the player is falling and must have just landed on the ground
+			
+			// The player is on the ground, so set y speed to 0 and the y coordinate to the exact y coordinate of the ground
+			ySpeed = 0;
+			playerY = minY;
+			lastGroundY = playerY; // Store the y coordinate of the last time the player was on the ground
+			
+			if (upsideDownMode && justLanded && !triangleMode) {
+				circleHitCeiling = true;
+			}
+			
+			if (jumping && !triangleMode) {
+				// If the player is jumping (holding down the mouse or space bar), call the jump method
+				jump();
+				holding = true; // The player is now holding the mouse/space bar
+			}
+		} else if (isTouchingYellowRing() && jumping && !holding) {
+			// The yellow ring has the same effect as the player jumping
+			jump();
+			holding = true;
+		}
+		
+		
+		if (playerY >= maxY - playerWidth && ySpeed >= 0) { // If the player is moving upwards and is running into an obstacle above them
+			if (triangleMode) {
+				// If the player hits a ceiling in triangle mode, set their y speed to 0 and make their y coordinate equal to the exact position beneath the obstacle
+				ySpeed = 0;
+				playerY = maxY - playerWidth;
+				
+			} else {
+				if (upsideDownMode) {
+					justLanded = ySpeed > 0; // If the y speed is larger than 0, the player is moving upwards and must have just landed on the ceiling
+					ySpeed = 0;
+					playerY = maxY - playerWidth;
+					lastGroundY = playerY;
+					
+					if (jumping) {
+						jump();
+						holding = true;
+					}
+				} else {
+					circleHitCeiling = true; // The player is in circle mode and hit a ceiling, meaning they should be killed
+				}
+			}
+		}
+		
+		double targetGroundHeight; // The height that the ground should be drawn at (in screen coordinates) based on the player's y coordinate
+		if (triangleMode) {
+			if (jumping) {
+				// If the player is holding the mouse/space bar in triangle mode, increase their y speed
+				if (upsideDownMode) {
+					ySpeed = Math.max(-triangleMaxYSpeed, ySpeed - triangleYSpeedIncrease * dt);
+				} else {
+					ySpeed = Math.min(triangleMaxYSpeed, ySpeed + triangleYSpeedIncrease * dt);
+				}
+				if (!hasUsedTriangleMode) {
+					hasUsedTriangleMode = true;
+					listener.onTriangleModeUsed(); // Let the game remember that the player has used triangle mode to avoid showing them help messages for it in the future
+				}
+			}
+			if (playerY == minY) {
+				playerRotation = Math.max(playerRotation - playerRotationSpeed * 0.5 * dt, 0); // If the player is on the ground, gradually move their rotation to 0
+			} else if (playerY == maxY - playerWidth) {
+				playerRotation = Math.min(playerRotation + playerRotationSpeed * 0.5 * dt, 0); // If the player is on the ceiling, gradually move their rotation to 0
+			} else {
+				playerRotation = StrictMath.atan2(-ySpeed, xSpeed); // If the player is in the air, set their rotation according to their speed to make them point in that direction
+			}
+			
+			targetGroundHeight = 0.5 / levelHeight; // In triangle mode the ground height always stays the same
+		} else {
+			if (upsideDownMode) {
+				targetGroundHeight = 0.5 / levelHeight; // In upside down mode the ground height always stays the same
+			} else {
+				// If the player is in normal circle mode, calculate the ground height based on the player's y coordinate
+				targetGroundHeight = Math.min(baseGroundHeight, groundHeightThreshold - (Math.min(lastGroundY, playerY) / levelHeight));
+			}
+		}
+		
+		double groundHeightTolerance = (triangleMode || upsideDownMode) ? 0 : 0.1; // It is acceptable if the ground height is within this amount of its target value
+		
+		// Move the ground height towards the target ground height if necessary
+		if (targetGroundHeight < groundHeight - groundHeightTolerance && !hasBeatLevel && !hasDied) {
+			groundHeight = Math.max(targetGroundHeight, groundHeight - groundHeightMoveSpeed * Math.max(ySpeed, xSpeed) * dt);
+		} else if (targetGroundHeight > groundHeight + groundHeightTolerance && !hasBeatLevel && !hasDied) {
+			groundHeight = Math.min(targetGroundHeight, groundHeight + groundHeightMoveSpeed * Math.max(ySpeed, xSpeed) * dt);
+		}
+
+		if (!hasDied && (shouldDie() || circleHitCeiling)) {
+			// If the player has been killed, start the death timer
+			hasDied = true;
+			deathTimer = 0;
+			if (!practiceMode) {
+				// Stop the music, but not in practice mode since the music in practice mode should continuously loop
+				stopMusic();
+			}
+			listener.onDeath(); // Play the death sound effect
+		}
+		
+		updateMode(); // Updates the players mode to triangle mode or circle mode if they are traveling through a portal
+		
+		if (isTouchingYellowPad()) {
+			ySpeed = upsideDownMode ? -yellowPadYSpeed : yellowPadYSpeed;
+			lastGroundY = playerY;
+		}
+		
+		if (practiceMode && !hasDied && !hasBeatLevel && (justLanded || triangleMode) && playerX - checkpointX > 15) {
+			// If the user is in practice mode, create a checkpoint if they have just landed and are far enough away from the last checkpoint
+			createCheckpoint();
+		}
+		
+		if (hasDied) {
+			jumping = false;
+			// If the player has already died, increase the death timer
+			deathTimer += dt;
+			if (deathTimer > 1) {
+				// After the death timer has reached one second, start the next attempt
+				startNextAttempt();
+			}
+			return;
+		}
+		
+		if (playerX > level.width && !hasBeatLevel) {
+			// The player has reached the end of the level
+			hasBeatLevel = true;
+			jumping = false;
+			winTimer = 0; // Start the win timer to time the ending animation
+			if (practiceMode) { // Only stop the music in practice mode, since in normal mode the music ends at the end of the level
+				stopMusic();
+			}
+			listener.onLevelComplete(); // Play the win sound
+		}
+		
+		if (hasBeatLevel) {
+			// Increase the win timer
+			winTimer += dt;
+			if (winTimer > winAnimationLength + 0.7) {
+				// After the win animation is finished, show the win screen
+				listener.onWinAnimationFinished();
+			}
+		}
+		
+		if (!playingMusic && playerX >= 0 + (level.musicOffset * xSpeed) && !hasDied && !hasBeatLevel) {
+			// If the music is not playing, start it
+			startMusic();
+			playerX = Math.max(checkpointX, 0);
+		}
+	}
+	
+	/** Method Name: createCheckpoint()
+	 * @Author Colin Toft
+	 * @Date January 9th, 2020
+	 * @Modified January 22nd, 2020
+	 * @Description Creates a checkpoint at the current player location.
+	 * @Returns N/A
+	 * Data Type: double, boolean, int
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	private void createCheckpoint() {
+		// Assign the values of the most recent checkpoint to the previous checkpoint
+		prevCheckpointX = checkpointX;
+		prevCheckpointY = checkpointY;
+		prevCheckpointYSpeed = checkpointYSpeed;
+		prevCheckpointTriangleMode = checkpointTriangleMode;
+		prevCheckpointUpsideDownMode = checkpointUpsideDownMode;
+		
+		// Update the checkpoint to current player position
+		checkpointX = playerX;
+		checkpointY = playerY;
+		checkpointYSpeed = ySpeed;
+		checkpointTriangleMode = triangleMode;
+		checkpointUpsideDownMode = upsideDownMode;
+		checkpointDeathCount = 0;
+	}
+	
+	/** Method Name: deleteCheckpoint()
+	 * @Author Colin Toft
+	 * @Date January 17th, 2020
+	 * @Modified January 22nd, 2020
+	 * @Description Deletes the most recent checkpoint.
+	 * @Returns N/A
+	 * Data Type: double, boolean, int
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	private void deleteCheckpoint() {
+		checkpointX = prevCheckpointX;
+		checkpointY = prevCheckpointY;
+		checkpointYSpeed = prevCheckpointYSpeed;
+		checkpointTriangleMode = prevCheckpointTriangleMode;
+		checkpointUpsideDownMode = prevCheckpointUpsideDownMode;
+		checkpointDeathCount = 0;
+	}
+	
+	/** Method Name: getMinY()
+	 * @Author Colin Toft
+	 * @Date January 7th, 2020
+	 * @Modified January 19th, 2020, October 17th, 2026
+	 * @Description Finds the y coordinate of the ground beneath the player (highest solid obstacle underneath the player).
+	 * The obstacle in each column is found with the level's index of solid blocks instead of scanning down the column
+	 * @Returns The y coordinate of the ground beneath the player
+	 * Data Type: double, int, Level
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	double getMinY() {
+		double circleRadius = playerWidth * 0.5; // The radius of the player in blocks
+		double playerCenterX = playerX + circleRadius; // The x coordinate of the center of the player in blocks
+		
+		double minY = 0; // The y coordinate of the ground beneath the player
+		
+		// Look at the two columns the player could be touching
+		for (int obstacleX = (int) playerX; obstacleX <= (int) playerX + 1; obstacleX++) {
+			int obstacleY = level.getSolidBlockBelow(obstacleX, (int)(playerY + playerWidth - 0.00001)); // The highest solid obstacle in this column that is not above the player
+			if (obstacleY >= 0) {
+				double blockMinY;
+				if ((int)playerCenterX == obstacleX) {
+					// If the player's center is on this block, set the minY to the top of this obstacle
+					blockMinY = obstacleY + 1;
+				} else {
+					double cornerX = Math.round(playerX);
+					// Calculate the exact minimum y for the player using math to account for the players circular shape on a corner of a square block
+					blockMinY = obstacleY + 1 - Math.abs(StrictMath.cos(StrictMath.asin((cornerX - playerCenterX) / circleRadius))) * circleRadius;
+				}
+				if (minY < blockMinY) {
+					// If the new calculated minY for this block is higher (closer to the player) than the previous value, store it in the minY variable
+					minY = blockMinY;
+				}
+			}
+		}
+		
+		return minY;
+	}
+	
+	/** Method Name: getMaxY()
+	 * @Author Colin Toft
+	 * @Date January 16th, 2020
+	 * @Modified October 17th, 2026
+	 * @Description Finds the y coordinate of the ceiling above the player (lowest solid obstacle above the player).
+	 * The obstacle in each column is found with the level's index of solid blocks instead of scanning up the column
+	 * @Returns The y coordinate of the ceiling above the player
+	 * Data Type: double, int, Level
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	double getMaxY() {
+		double circleRadius = playerWidth * 0.5; // The radius of the player in blocks
+		double playerCenterX = playerX + circleRadius; // The x coordinate of the center of the player in blocks
+		
+		double maxY = (triangleMode || upsideDownMode) ? levelHeight - 1 : 1000000; // The y coordinate of the ceiling or obstacle above the player
+		
+		// Look at the two columns the player could be touching
+		for (int obstacleX = (int) playerX; obstacleX <= (int) playerX + 1; obstacleX++) {
+			int obstacleY = level.getSolidBlockAbove(obstacleX, (int)(playerY + playerWidth)); // The lowest solid obstacle in this column that is not below the top of the player
+			if (obstacleY >= 0) {
+				double blockMaxY;
+				if ((int)playerCenterX == obstacleX) { // If the player's center is on this block, set the maxY to the bottom of this obstacle
+					blockMaxY = obstacleY;
+				} else {
+					double cornerX = Math.round(playerX);
+					// Calculate the exact maximum y for the player using math to account for the players circular shape on a corner of a square block
+					blockMaxY = obstacleY + Math.abs(StrictMath.cos(StrictMath.asin((cornerX - playerCenterX) / circleRadius))) * circleRadius;
+				}
+				if (maxY > blockMaxY) {
+					// If the new calculated maxY for this block is lower (closer to the player) than the previous value, store it in the maxY variable
+					maxY = blockMaxY;
+				}
+			}
+		}
+		
+		return maxY;
+	}
+	
+	/** Method Name: shouldDie()
+	 * @Author Colin Toft
+	 * @Date January 7th, 2020
+	 * @Modified October 17th, 2026
+	 * @Description Determines if a player is touching a triangle or is colliding with the side of a solid object.
+	 * The player's circle is tested against each shape with Collision instead of intersecting Areas, so no objects are created
+	 * @Returns Whether or not the player should die based on these conditions
+	 * Data Type: double, int, Obstacle, Collision
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	boolean shouldDie() {
+		double radius = playerWidth * 0.5; // The radius of the player in blocks
+		double centerX = playerX + radius, centerY = playerY + radius; // The center of the player in blocks
+		
+		// Loop through all obstacles that the player could be touching
+		for (int obstacleX = (int) playerX; obstacleX <= (int) playerX + 1; obstacleX++) {
+			for (int obstacleY = (int)(playerY + playerWidth); obstacleY >= 0; obstacleY--) {
+				try {
+					Obstacle obstacle = level.obstacles[obstacleX][obstacleY];
+					// If the obstacle is a triangle, see if it intersects with the player
+					if (obstacle == Obstacle.TRIANGLE) {
+						if (Collision.circleIntersectsTriangle(centerX, centerY, radius, obstacleX, obstacleY, obstacleX + 0.5, obstacleY + 1, obstacleX + 1, obstacleY)) {
+							return true; // The player intersects with the triangle
+						}
+					// If the obstacle is an upside down triangle, see if it intersects with the player
+					} else if (obstacle == Obstacle.TRIANGLE_UPSIDE_DOWN) {
+						if (Collision.circleIntersectsTriangle(centerX, centerY, radius, obstacleX, obstacleY + 1, obstacleX + 0.5, obstacleY, obstacleX + 1, obstacleY + 1)) {
+							return true; // The player intersects with the triangle
+						}
+					// If the obstacle is an left facing triangle, see if it intersects with the player
+					} else if (obstacle == Obstacle.TRIANGLE_LEFT) {
+						if (Collision.circleIntersectsTriangle(centerX, centerY, radius, obstacleX, obstacleY + 0.5, obstacleX + 1, obstacleY, obstacleX + 1, obstacleY + 1)) {
+							return true; // The player intersects with the triangle
+						}
+					}
+				} catch (ArrayIndexOutOfBoundsException e) {}
+			}
+			
+			if (obstacleX > playerX) { // Check on the right side of the player to see if they are about to run into a square
+				for (int obstacleY = (int)(playerY + playerWidth); obstacleY >= (int) playerY; obstacleY--) {
+					try {
+						if (level.obstacles[obstacleX][obstacleY] != null && level.obstacles[obstacleX][obstacleY].isSolid()) { // If there is a solid obstacle at this location
+							// Find the part of the obstacle that overlaps the right side of the player's bounding box (the right fifth), and see if the player's circle reaches into it
+							double left = Math.max(playerX + playerWidth * 0.8, obstacleX);
+							double right = Math.min(playerX + playerWidth, obstacleX + 1);
+							double bottom = Math.max(playerY, obstacleY);
+							double top = Math.min(playerY + playerWidth, obstacleY + 1);
+							
+							if (Collision.circleIntersectsRectangle(centerX, centerY, radius, left, bottom, right - left, top - bottom)) {
+								// The right side of the player intersects with this obstacle
+								return true;
+							}
+						}
+					} catch (ArrayIndexOutOfBoundsException e) {}
+				}
+			}
+		}
+		
+		return false;
+	}
+	
+	/** Method Name: findInteractions()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Moves the interaction cursor to the first pad, ring or portal in the level that is in a column or to the right of it.
+	 * The player only moves a little each tick, so this is usually only a step or two
+	 * @Parameters
+	 *      - int column: the x coordinate of the column in blocks
+	 * @Returns The index of the first interaction at or to the right of the column
+	 * Data Type: int, Level
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	private int findInteractions(int column) {
+		interactionCursor = level.findInteraction(column, interactionCursor);
+		return interactionCursor;
+	}
+	
+	/** Method Name: isTouchingYellowPad()
+	 * @Author Colin Toft
+	 * @Date January 19th, 2020
+	 * @Modified October 17th, 2026
+	 * @Description Determines if a player is touching a yellow pad. Only the pads, rings and portals in the two columns the player could be touching are looked at, using the level's sorted list of them
+	 * @Returns True the player is currently touching a yellow pad, otherwise false
+	 * Data Type: double, int, Obstacle, Collision, Level
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	boolean isTouchingYellowPad() {
+		double radius = playerWidth * 0.5; // The radius of the player in blocks
+		double centerX = playerX + radius, centerY = playerY + radius; // The center of the player in blocks
+		int column = (int) playerX; // The first of the two columns the player could be touching
+		int topY = (int)(playerY + playerWidth); // The highest block the player could be touching
+				
+		// Loop through the interactive obstacles near the player
+		for (int i = findInteractions(column); i < level.getInteractionCount() && level.getInteractionX(i) <= column + 1; i++) {
+			int obstacleX = level.getInteractionX(i), obstacleY = level.getInteractionY(i);
+			if (obstacleY > topY) {
+				continue;
+			}
+			
+			// If the obstacle is a yellow pad, see if the player intersects with the bottom quarter of the block
+			if (level.getInteractionObstacle(i) == Obstacle.YELLOW_PAD && Collision.circleIntersectsRectangle(centerX, centerY, radius, obstacleX, obstacleY, 1, 0.25)) {
+				return true; // If there is an intersection, the player is touching the yellow pad
+			}
+			
+			// If the obstacle is an upside down yellow pad, see if the player intersects with the top quarter of the block
+			if (level.getInteractionObstacle(i) == Obstacle.YELLOW_PAD_UPSIDE_DOWN && Collision.circleIntersectsRectangle(centerX, centerY, radius, obstacleX, obstacleY + 0.75, 1, 0.25)) {
+				return true; // If there is an intersection, the player is touching the yellow pad
+			}
+		}
+		
+		return false;
+	}
+	
+	/** Method Name: isTouchingYellowRing()
+	 * @Author Colin Toft
+	 * @Date January 19th, 2020
+	 * @Modified October 17th, 2026
+	 * @Description Determines if a player is touching a yellow ring. Only the pads, rings and portals in the two columns the player could be touching are looked at, using the level's sorted list of them
+	 * @Returns True the player is currently touching a yellow ring, otherwise false
+	 * Data Type: double, int, Obstacle, Collision, Level
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	boolean isTouchingYellowRing() {
+		double radius = playerWidth * 0.5; // The radius of the player in blocks
+		double centerX = playerX + radius, centerY = playerY + radius; // The center of the player in blocks
+		int column = (int) playerX; // The first of the two columns the player could be touching
+		int topY = (int)(playerY + playerWidth); // The highest block the player could be touching
+				
+		// Loop through the interactive obstacles near the player
+		for (int i = findInteractions(column); i < level.getInteractionCount() && level.getInteractionX(i) <= column + 1; i++) {
+			int obstacleX = level.getInteractionX(i), obstacleY = level.getInteractionY(i);
+			// A yellow ring reaches a quarter of a block past each side of its block, so it is a circle with a radius of 0.75 around the center of the block
+			if (obstacleY <= topY && level.getInteractionObstacle(i) == Obstacle.YELLOW_RING && Collision.circleIntersectsCircle(centerX, centerY, radius, obstacleX + 0.5, obstacleY + 0.5, 0.75)) {
+				return true; // If there is an intersection, the player is touching the yellow ring
+			}
+		}
+		
+		return false;
+	}
+	
+	/** Method Name: updateMode()
+	 * @Author Colin Toft
+	 * @Date January 15th, 2020
+	 * @Modified January 16th, 2020, October 17th, 2026
+	 * @Description Determines if a player is travelling through a portal and changes their mode appropriately. The portals in the player's column are found with the level's sorted list of pads, rings and portals
+	 * @Returns N/A
+	 * Data Type: int, Obstacle, boolean, Level
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	private void updateMode() {
+		int xCoord = (int) playerX; // The x coordinate to check
+		int bottomY = (int) playerY; // The bottom y coordinate to check (the bottom of the player)
+		int topY = bottomY + 1; // The top y coordinate to check (the top of the player)
+		
+		if (xCoord < 0 || xCoord >= level.width || bottomY < 0 || topY >= level.height) {
+			return; // Part of the player is outside the level
+		}
+		
+		// Find which kinds of portal are at the top and bottom coordinates
+		boolean circlePortal = false, trianglePortal = false, upsideDownPortal = false, rightSideUpPortal = false;
+		for (int i = findInteractions(xCoord); i < level.getInteractionCount() && level.getInteractionX(i) == xCoord; i++) {
+			if (level.getInteractionY(i) == bottomY || level.getInteractionY(i) == topY) {
+				Obstacle obstacle = level.getInteractionObstacle(i);
+				circlePortal |= obstacle.isCirclePortal();
+				trianglePortal |= obstacle.isTrianglePortal();
+				upsideDownPortal |= obstacle.isUpsideDownPortal();
+				rightSideUpPortal |= obstacle.isRightSideUpPortal();
+			}
+		}
+		
+		if (triangleMode) { // The player is in triangle mode, so look for a circle portal
+			if (circlePortal) {
+				triangleMode = false; // The player is touching a circle portal, so begin circle mode
+			}
+		} else { // The player is in circle mode, so look for a triangle portal
+			if (trianglePortal) {
+				triangleMode = true; // The player is touching a triangle portal, so begin triangle mode
+				playerRotation = 0;
+			}
+		}
+		
+		if (upsideDownMode) { // The player is in upside down mode, so look for a right side up portal
+			if (rightSideUpPortal) {
+				upsideDownMode = false; // The player is touching a right side up portal, so turn off upside down mode
+			}
+		} else { // The player is in circle mode, so look for a triangle portal
+			if (upsideDownPortal) {
+				upsideDownMode = true; // The player is touching an upside down portal, so begin upside down mode
+			}
+		}
+	}
+	
+	/** Method Name: jump()
+	 * @Author Colin Toft
+	 * @Date December 30th, 2019
+	 * @Modified January 10th, 13th & 22nd, 2020
+	 * @Description Makes the player jump upwards
+	 * @Parameters N/A
+	 * @Returns N/A
+	 * Data Type: double, boolean
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	private void jump() {
+		ySpeed = upsideDownMode ? -jumpYSpeed : jumpYSpeed; // Set the y speed to the jump y speed value to cause the player to move upwards
+		jumpCount++; // Setting this to true will remove the jumping tutorial message
+	}
+	
+	/** Method Name: startNextAttempt()
+	 * @Author Colin Toft
+	 * @Date January 7th, 2020
+	 * @Modified January 9th, 13th, 14th, 15th, 18th & 22nd, October 17th, 2026
+	 * @Description Restarts the player from the beginning of the level
+	 * @Parameters N/A
+	 * @Returns N/A
+	 * Data Type: SimulationListener, double, boolean, int
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	public void startNextAttempt() {
+		listener.onAttemptEnd();
+		
+		playerRotation = 0;
+		
+		if (practiceMode) {
+			// If the player just after a checkpoint, increase the checkpoint death count
+			if (playerX - checkpointX < 7) {
+				checkpointDeathCount++;
+			}
+			
+			// If the player keeps dying after the checkpoint, delete it
+			if (checkpointDeathCount >= 3 && prevCheckpointX != checkpointX) {
+				deleteCheckpoint();
+			}
+			
+			// Respawn from the previous checkpoint
+			playerX = checkpointX;
+			playerY = checkpointY;
+			ySpeed = checkpointYSpeed;
+			triangleMode = checkpointTriangleMode;
+			upsideDownMode = checkpointUpsideDownMode;
+			
+			// Set the starting ground height
+			if (triangleMode || upsideDownMode) {
+				groundHeight = 0.5 / levelHeight;
+			} else {
+				groundHeight = Math.min(baseGroundHeight, groundHeightThreshold - (playerY / levelHeight));
+			}
+			
+		} else {
+			stopMusic();
+
+			// Begin with the player just to the left of the level
+			playerX = -10;
+			playerY = 0;
+			ySpeed = 0;
+			
+			// Delete any checkpoints
+			checkpointX = playerX;
+			checkpointY = playerY;
+			checkpointYSpeed = ySpeed;
+			prevCheckpointX = checkpointX;
+			prevCheckpointY = checkpointY;
+			prevCheckpointYSpeed = checkpointYSpeed;
+			
+			groundHeight = baseGroundHeight; // Set the starting ground height
+			triangleMode = false; // The level always starts in circle mode, not triangle mode
+			upsideDownMode = false;
+		}
+		
+		lastGroundY = playerY; // Reset the lastGroundY
+
+		// Reset other variables
+		jumping = false;
+		holding = false;
+		hasDied = false;
+		hasBeatLevel = false;
+		
+		listener.onAttemptStart();
+	}
+	
+	/** Method Name: restartLevel()
+	 * @Author Colin Toft
+	 * @Date January 14th, 2020
+	 * @Modified October 17th, 2026
+	 * @Description Restarts the player from the beginning of the level and from their first attempt
+	 * @Parameters N/A
+	 * @Returns N/A
+	 * Data Type: boolean, int
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	public void restartLevel() {
+		practiceMode = false; // Begin the level in normal mode for the 1st attempt
+		winTimer = 0;
+		startNextAttempt(); // Call the normal procedure to start an attempt
+		playerX = -15; // Player starts a little further to the left than normal on the 1st attempt
+		listener.onAttemptStart(); // Tell the listener again, since the player has moved
+	}
+	
+	/** Method Name: changeMode()
+	 * @Author Colin Toft
+	 * @Date January 9th, 2020
+	 * @Modified October 17th, 2026
+	 * @Description Toggles the mode between practice mode and normal mode
+	 * @Parameters N/A
+	 * @Returns N/A
+	 * Data Type: boolean
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	public void changeMode() {
+		practiceMode = !practiceMode; // Toggle between practice mode and normal mode
+		stopMusic();
+		if (!practiceMode) {
+			// If the player is switching into normal mode, they need to start the level from the beginning
+			startNextAttempt();
+		} else if (playerX >= 0) {
+			startMusic(); // If the player is switching into practice mode, start the practice mode music
+		}
+	}
+	
+	/** Method Name: startMusic()
+	 * @Author Colin Toft
+	 * @Date January 9th, 2020
+	 * @Modified October 17th, 2026
+	 * @Description Starts the music from the beginning (level music if playing in normal mode, otherwise practice music)
+	 * @Parameters N/A
+	 * @Returns N/A
+	 * Data Type: boolean, SimulationListener
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	public void startMusic() {
+		playingMusic = true;
+		listener.onMusicStart(practiceMode);
+	}
+	
+	/** Method Name: resumeMusic()
+	 * @Author Colin Toft
+	 * @Date January 9th, 2020
+	 * @Modified October 17th, 2026
+	 * @Description Resumes the music (level music if playing in normal mode, otherwise practice music)
+	 * @Parameters N/A
+	 * @Returns N/A
+	 * Data Type: boolean, SimulationListener
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	public void resumeMusic() {
+		playingMusic = true;
+		listener.onMusicResume(practiceMode);
+	}
+	
+	/** Method Name: stopMusic()
+	 * @Author Colin Toft
+	 * @Date January 9th, 2020
+	 * @Modified October 17th, 2026
+	 * @Description Stops all currently playing music and sounds
+	 * @Parameters N/A
+	 * @Returns N/A
+	 * Data Type: boolean, SimulationListener
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	public void stopMusic() {
+		playingMusic = false;
+		listener.onMusicStop();
+	}
+	
+	/** Method Name: setPlayerPosition()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Moves the player to the given coordinates without simulating anything, so the collision checks can be measured at chosen spots by the benchmarks
+	 * @Parameters
+	 *      - double x: the new x coordinate of the player in blocks
+	 *      - double y: the new y coordinate of the player in blocks
+	 * @Returns N/A
+	 * Data Type: double
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	void setPlayerPosition(double x, double y) {
+		playerX = x;
+		playerY = y;
+	}
+	
+	/** Method Name: loadRun()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Replaces the player's state with one run of a BatchSimulation, so the run can be stepped with the same code as a single simulation.
+	 * Only the state that decides where the player goes is loaded (not the rotation, ground height, practice mode or timers, which the batch does not use)
+	 * @Parameters
+	 *      - BatchSimulation batch: the batch the run belongs to
+	 *      - int run: the index of the run
+	 * @Returns N/A
+	 * Data Type: BatchSimulation, int, double, boolean
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	void loadRun(BatchSimulation batch, int run) {
+		playerX = batch.playerX[run];
+		playerY = batch.playerY[run];
+		ySpeed = batch.ySpeed[run];
+		triangleMode = batch.triangleMode[run];
+		upsideDownMode = batch.upsideDownMode[run];
+		jumping = batch.jumping[run];
+		holding = batch.holding[run];
+		playingMusic = batch.playingMusic[run];
+		hasDied = batch.hasDied[run];
+		hasBeatLevel = batch.hasBeatLevel[run];
+		interactionCursor = batch.interactionCursor[run];
+	}
+	
+	/** Method Name: storeRun()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Copies the player's state into one run of a BatchSimulation, after the run has been loaded with loadRun() and stepped
+	 * @Parameters
+	 *      - BatchSimulation batch: the batch the run belongs to
+	 *      - int run: the index of the run
+	 * @Returns N/A
+	 * Data Type: BatchSimulation, int, double, boolean
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	void storeRun(BatchSimulation batch, int run) {
+		batch.playerX[run] = playerX;
+		batch.playerY[run] = playerY;
+		batch.ySpeed[run] = ySpeed;
+		batch.triangleMode[run] = triangleMode;
+		batch.upsideDownMode[run] = upsideDownMode;
+		batch.jumping[run] = jumping;
+		batch.holding[run] = holding;
+		batch.playingMusic[run] = playingMusic;
+		batch.hasDied[run] = hasDied;
+		batch.hasBeatLevel[run] = hasBeatLevel;
+		batch.interactionCursor[run] = interactionCursor;
+	}
+	
+	/** Method Name: getPlayerProgress()
+	 * @Author Colin Toft
+	 * @Date January 8th, 2020
+	 * @Modified N/A
+	 * @Description Calculates the player's current progress in the level
+	 * @Parameters N/A
+	 * @Returns The players progress in the level on a scale from 0 to 1
+	 * Data Type: boolean, int
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	public double getPlayerProgress() {
+		return Util.constrain(playerX / level.width, 0, 1);
+	}
+	
+	/** Method Name: getPlayerX()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Returns the player's x coordinate
+	 * @Parameters N/A
+	 * @Returns The player's x coordinate in blocks (0 is the start of the level)
+	 * Data Type: double
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	public double getPlayerX() {
+		return playerX;
+	}
+	
+	/** Method Name: getPlayerY()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Returns the player's y coordinate
+	 * @Parameters N/A
+	 * @Returns The player's y coordinate in blocks (0 is ground level)
+	 * Data Type: double
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	public double getPlayerY() {
+		return playerY;
+	}
+	
+	/** Method Name: getPlayerRotation()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Returns the player's rotation
+	 * @Parameters N/A
+	 * @Returns The player's rotation in radians
+	 * Data Type: double
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	public double getPlayerRotation() {
+		return playerRotation;
+	}
+	
+	/** Method Name: getGroundHeight()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Returns how much of the screen the ground should take up
+	 * @Parameters N/A
+	 * @Returns The height of the ground as a fraction of the screen height
+	 * Data Type: double
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	public double getGroundHeight() {
+		return groundHeight;
+	}
+	
+	/** Method Name: isTriangleMode()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Returns if the player is currently in triangle mode
+	 * @Parameters N/A
+	 * @Returns True if triangle mode is enabled, otherwise false
+	 * Data Type: boolean
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	public boolean isTriangleMode() {
+		return triangleMode;
+	}
+	
+	/** Method Name: isUpsideDownMode()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Returns if the player is currently in upside down mode
+	 * @Parameters N/A
+	 * @Returns True if upside down mode is enabled, otherwise false
+	 * Data Type: boolean
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	public boolean isUpsideDownMode() {
+		return upsideDownMode;
+	}
+	
+	/** Method Name: isPracticeMode()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Returns if the level is currently being played in practice mode
+	 * @Parameters N/A
+	 * @Returns True if practice mode is enabled, otherwise false
+	 * Data Type: boolean
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	public boolean isPracticeMode() {
+		return practiceMode;
+	}
+	
+	/** Method Name: hasDied()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Returns if the player has died in the current attempt
+	 * @Parameters N/A
+	 * @Returns True if the player has died, otherwise false
+	 * Data Type: boolean
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	public boolean hasDied() {
+		return hasDied;
+	}
+	
+	/** Method Name: hasBeatLevel()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Returns if the player has reached the end of the level in the current attempt
+	 * @Parameters N/A
+	 * @Returns True if the player has beat the level, otherwise false
+	 * Data Type: boolean
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	public boolean hasBeatLevel() {
+		return hasBeatLevel;
+	}
+	
+	/** Method Name: getWinTimer()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Returns how long ago the player beat the level
+	 * @Parameters N/A
+	 * @Returns The time in seconds since the player beat the level
+	 * Data Type: double
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	public double getWinTimer() {
+		return winTimer;
+	}
+	
+	/** Method Name: isPlayingMusic()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Returns if the music is currently meant to be playing
+	 * @Parameters N/A
+	 * @Returns True if the music is playing, otherwise false
+	 * Data Type: boolean
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	public boolean isPlayingMusic() {
+		return playingMusic;
+	}
+	
+	/** Method Name: getJumpCount()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Returns how many times the player has jumped
+	 * @Parameters N/A
+	 * @Returns The number of jumps since the simulation was created
+	 * Data Type: int
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	public int getJumpCount() {
+		return jumpCount;
+	}
+	
+	/** Method Name: getTick()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Returns how many ticks have been simulated
+	 * @Parameters N/A
+	 * @Returns The number of times step() has been called
+	 * Data Type: long
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	public long getTick() {
+		return tick;
+	}
+	
+	/** Method Name: getCheckpointX()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Returns the x coordinate of the most recent practice mode checkpoint
+	 * @Parameters N/A
+	 * @Returns The x coordinate of the checkpoint in blocks
+	 * Data Type: double
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	public double getCheckpointX() {
+		return checkpointX;
+	}
+	
+	/** Method Name: getCheckpointY()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Returns the y coordinate of the most recent practice mode checkpoint
+	 * @Parameters N/A
+	 * @Returns The y coordinate of the checkpoint in blocks
+	 * Data Type: double
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	public double getCheckpointY() {
+		return checkpointY;
+	}
+	
+	/** Method Name: getPrevCheckpointX()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Returns the x coordinate of the previous practice mode checkpoint
+	 * @Parameters N/A
+	 * @Returns The x coordinate of the checkpoint in blocks
+	 * Data Type: double
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	public double getPrevCheckpointX() {
+		return prevCheckpointX;
+	}
+	
+	/** Method Name: getPrevCheckpointY()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Returns the y coordinate of the previous practice mode checkpoint
+	 * @Parameters N/A
+	 * @Returns The y coordinate of the checkpoint in blocks
+	 * Data Type: double
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	public double getPrevCheckpointY() {
+		return prevCheckpointY;
+	}
+	
+	/** Method Name: getLevel()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Returns the level that is being simulated
+	 * @Parameters N/A
+	 * @Returns The Level object
+	 * Data Type: Level
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	public Level getLevel() {
+		return level;
+	}
+}
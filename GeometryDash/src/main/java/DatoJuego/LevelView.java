@@ -4,16 +4,16 @@ import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsDevice;
+import java.awt.Image;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
 import java.awt.event.KeyEvent;
-import java.awt.geom.AffineTransform;
-import java.awt.geom.Area;
-import java.awt.geom.Ellipse2D;
-import java.awt.geom.GeneralPath;
-import java.awt.geom.Rectangle2D;
-import java.awt.geom.Ellipse2D.Double;
-import java.awt.image.AffineTransformOp;
 import java.awt.image.BufferedImage;
-import java.util.HashMap;
+import java.awt.image.VolatileImage;
+import java.io.File;
+import java.io.IOException;
 
 import javax.sound.sampled.Clip;
 
@@ -23,88 +23,59 @@ import javax.sound.sampled.Clip;
 ***********************************************
 @Author Colin Toft
 @Date December 30th, 2019
-@Modified December 31st, January 7th, 8th, 9th, 10th, 13th, 14th, 15th, 16th, 17th, 18th, 19th, 21st, 22nd & 23nd, 2020
+@Modified December 31st, January 7th, 8th, 9th, 10th, 13th, 14th, 15th, 16th, 17th, 18th, 19th, 21st, 22nd & 23nd, 2020, October 17th, 2026
 @Description A class that renders the level to the screen, including backgrounds, obstacles and the player, as well as playing the game music.
+The physics of the level are run by a LevelSimulation, which this class steps, draws and plays sounds for.
 ***********************************************
 */
 public class LevelView extends Drawable {
 
 	private Level level; // The level that is being played
+	private LevelSimulation simulation; // The physics and rules of the level, which this class draws and plays sounds for
 	
-	private final double xSpeed = 10.386; // The constant speed at which the player moves to the right, in blocks per second (taken from a forum about geometry dash physics: http://gdforum.freeforums.net/thread/48749/p1kachu-presents-physics-geometry-dash)
-	private final double levelHeight = 11; // Height of the level in blocks
-	private final double baseGroundHeight = 0.3; // The starting height of the ground (as a fraction of the screen height)
-	private double groundHeight = baseGroundHeight; // Fraction of the height of the screen that the ground takes up
-	private final double groundHeightMoveSpeed = 0.04; // The speed at which the ground height will move up and down
-	private final double groundHeightThreshold = 0.45; // If the player is above this coordinate (fraction of screen height)
+	private final double levelHeight = LevelSimulation.levelHeight; // Height of the level in blocks
 	private final double playerScreenX = 0.34; // The x coordinate where the player is drawn (as a fraction of the screen width)
 	private final int levelEndOffset = 8; // How many blocks the end of the level appears after the last obstacle
 	private final double backgroundSpeed = 0.125; // The speed of the background compared to the speed of the ground
+	private static final BasicStroke lineStroke = new BasicStroke(2f); // The stroke of the white lines along the ground and ceiling, made once instead of every frame
 	
-	private final double playerWidth = 1; // The width of the player in blocks
-	private int groundTileWidth; // The width of one ground tile in pixels
+	private final double playerWidth = LevelSimulation.playerWidth; // The width of the player in blocks
 	
-	private final double playerRotationSpeed = xSpeed / (playerWidth * 0.5); // The speed that the player rotates at in radians/s
-	private double playerRotation = 0; // The current player rotation
+	private double prevPlayerX = -15, prevPlayerY = 0; // The player's coordinates before the most recent update (in blocks), used to interpolate between updates
+	private double renderPlayerX = prevPlayerX, renderPlayerY = prevPlayerY; // The interpolated player coordinates that the current frame is being drawn at (in blocks)
+	private double renderGroundHeight = 0.3; // The ground height that the current frame is being drawn with
+	private double renderScale = 1; // The fraction of the view's size in pixels that the newest images were requested at
+	private double renderScaleSetting = 1; // The fraction of the view's size chosen by the user to draw the level at, before the game's render quality lowers it further
+	private int maxRenderHeight = 0; // The most pixels tall the level is drawn at before being stretched over the view, or 0 for no limit
+	private Object upscaleInterpolation = null; // The interpolation hint used to stretch the frame over the view, or null to follow the render quality
+	private BufferedImage frame; // The image that the level is drawn into before being stretched over the view, when the images are not the size of the view
+	private VolatileImage acceleratedFrame; // A frame in video memory used instead of the BufferedImage when drawing to the screen, so stretching it is done by the graphics card
+	private Image currentFrame; // The frame that the level is being drawn into this frame
+	private Graphics2D frameGraphics; // Draws into the current frame, kept from one frame to the next
+	private boolean deterministic = true; // Whether the simulation is stepped with fixed ticks, which makes it repeatable and lets it be recorded
+	private double tickAccumulator = 0; // Time in seconds that has passed but has not been simulated yet, in deterministic mode
+	private final InputQueue inputs = new InputQueue(1024); // Input events (Replay event types) and the times they happened, waiting to be applied by the update thread
+	private Replay recording; // The recording of the player's inputs in this level, or null if not recording
+	private volatile boolean savingRecording = false; // Set when leaving for the main menu, so that dispose() saves the recording once the update thread has stopped stepping the level
+	private ReplayPlayer replayPlayer; // Plays a replay instead of taking the player's input, or null
+	private double playbackSpeed = 1; // How many times faster than real time a replay is played
 	
-	private double playerX = -15; // The player's x coordinate in blocks (0 is the start of the level)
-	private double playerY = 0; // The player's y coordinate in blocks (0 is ground level)
-	private double lastGroundY = 0; // The y coordinate of the last time the player was on the ground (in blocks)
+	private final TripleBuffer<LevelRenderState> renderStates = new TripleBuffer<LevelRenderState>(new LevelRenderState(), new LevelRenderState(), new LevelRenderState()); // Snapshots of the level passed from update() to draw(), which may run on another thread
 	
-	private boolean hasDied = false; // Whether or not the player has died
-	private double deathTimer = 0; // A timer that counts up in seconds after the player has died
-	public boolean hasBeatLevel = false; // Whether or not the player has beat the level
-	private double winTimer = 0; // A timer that counts up in seconds after the player has beat the level
-	private double winAnimationLength = 1; // The length of the level completion animation in seconds
-	
-	private boolean jumping = false; // Whether the user is currently jumping (pressing space or clicking)
-	private boolean holding = false; // Whether the user is holding down the mouse
-	public int jumpCount = 0; // How many times the user has jumped
-	private boolean hasUsedTriangleMode = false; // Whether or not the user has used triangle mode so far
-		
-	private boolean playingMusic = false; // Whether music is currently playing
-	
-	private double ySpeed = 0; // The current y speed of the player in blocks per second
-	private final double gravity = 0.876 * xSpeed * xSpeed; // The rate at which gravity affects the y speed (taken from a forum about geometry dash physics)
-	private final double minYSpeed = -2.6 * xSpeed; // The minimum y speed, or fastest rate at which the player can fall (taken from a forum about geometry dash physics)
-	private final double jumpYSpeed = 2 * xSpeed; // The value that the y speed is set to when the player jumps (taken from a forum about geometry dash physics)
-	private final double yellowPadYSpeed = 2.77 * xSpeed;
-	private final double triangleMaxYSpeed = 1.4 * xSpeed; // The maximum y speed that a player can reach when in triangle mode (found with trial and error)
-	private final double triangleMinYSpeed = -1 * xSpeed; // The minimum y speed that a player can reach when in triangle mode (found with trial and error)
-	private final double triangleYSpeedIncrease = 0.4 * xSpeed * xSpeed; // The rate at which y speed increases when the player holds down with the mouse or space bar (found with trial and error)
-	
-	private boolean practiceMode = false; // Whether the player is currently in practice mode
-	private double checkpointX = playerX; // The x coordinate of the most recent practice mode checkpoint, in blocks
-	private double checkpointY = playerY; // The y coordinate of the most recent practice mode checkpoint, in blocks
-	private double checkpointYSpeed = ySpeed; // The y speed of the player at the most recent practice mode checkpoint, in blocks per second
-	private boolean checkpointTriangleMode = false; // Whether the player was in triangle mode at the most recent checkpoint
-	private boolean checkpointUpsideDownMode = false; // Whether the player was in upside down mode at the most recent checkpoint
-	private int checkpointDeathCount = 0; // How many times the player has died close to the most recent checkpoint
-	private double prevCheckpointX = checkpointX; // The x coordinate of the previous practice mode checkpoint, in blocks
-	private double prevCheckpointY = checkpointY; // The y coordinate of the previous practice mode checkpoint, in blocks
-	private double prevCheckpointYSpeed = checkpointYSpeed; // The y speed of the player at the previous practice mode checkpoint, in blocks per second
-	private boolean prevCheckpointTriangleMode = checkpointTriangleMode; // Whether the player was in triangle mode at the previous checkpoint
-	private boolean prevCheckpointUpsideDownMode = checkpointUpsideDownMode; // Whether the player was in upside down mode at the previous checkpoint
-	
-	private boolean triangleMode = false; // Whether the player is currently in triangle mode
-	private boolean upsideDownMode = false; // Whether the player is currently in upside down mode
-	
-	private BufferedImage playerCircleImage, playerTriangleImage, playerTriangleUpsideDownImage; // Player images
-	private BufferedImage backgroundImage, groundImage, ceilingImage; // Images for the background of the level
-	private BufferedImage checkpointImage; // Image for the practice mode checkpoints
-	private double triangleImagePadding = 0.5 * playerWidth; // How much padding to put around the triangle image (needed so that rotation doesn't cut off the image)
-		
-	HashMap<Obstacle, BufferedImage> images; // A Hashmap that matches an Obstacle type to its corresponding image
+	private volatile LevelImages images; // The images that draw() is using, which set the size in pixels the level is drawn at
+	private volatile LevelImages nextImages; // The newest images, made by generateImage() on another thread and swapped in by draw() at the start of a frame
+	private volatile boolean disposed = false; // Set once the scene is closed, so images that finish being made afterwards are released instead of kept
 	
 	private Clip music; // The music for this level
 	private Clip practiceMusic; // The practice mode music
 	private Clip deathSound; // The sound that plays when the player is killed
 	private Clip winSound; // The sound that plays when the player completes the level
+	private Clip pausedMusic; // The music that was playing when the game was paused, to resume when it is unpaused, or null (only used on the AWT event dispatch thread)
 	
 	/** Method Name: LevelView()
 	 * @Author Colin Toft
 	 * @Date December 30th, 2019
-	 * @Modified Jauary 9th, 2020
+	 * @Modified Jauary 9th, 2020, October 17th, 2026
 	 * @Description Creates a new LevelView object
 	 * @Parameters
 	 *      - double x: the x coordinate of this object (as a percentage of the parent panel's width)
@@ -113,7 +84,7 @@ public class LevelView extends Drawable {
 	 *      - double height: the height of this object (as a percentage of the parent panel's height)
 	 *      - Level level: the level to play
 	 * @Returns N/A
-	 * Data Type: Drawable, Color, Boolean, Level, Clip
+	 * Data Type: Drawable, Color, Boolean, Level, Clip, LevelSimulation, SimulationListener
 	 * Dependencies: CGraphics library (by Colin)
 	 * Throws/Exceptions: N/A
 	 */
@@ -130,6 +101,73 @@ public class LevelView extends Drawable {
 		practiceMusic = Util.getAudioClip(getClass(), "AsItShouldBeLoop.wav");
 		deathSound = Util.getAudioClip(getClass(), "explodeSound.wav");
 		winSound = Util.getAudioClip(getClass(), "levelCompleteSound.wav");
+		
+		// Create the simulation and play sounds and update the scene when its events happen
+		simulation = new LevelSimulation(level, new SimulationListener() {
+			@Override
+			public void onAttemptEnd() {
+				deathSound.stop();
+				((PlayLevel) parentPanel).restartLevel();
+			}
+			
+			@Override
+			public void onAttemptStart() {
+				snapInterpolation(); // The player has teleported, so do not interpolate from their old position
+			}
+			
+			@Override
+			public void onDeath() {
+				deathSound.setFramePosition(0);
+				deathSound.start();
+			}
+			
+			@Override
+			public void onLevelComplete() {
+				winSound.setFramePosition(0);
+				winSound.start();
+			}
+			
+			@Override
+			public void onWinAnimationFinished() {
+				((PlayLevel) parentPanel).showWinScreen(); // After the win animation is finished, show the win screen
+			}
+			
+			@Override
+			public void onTriangleModeUsed() {
+				((ShapeSprint) getGame()).hasUsedTriangleMode = true; // Remember that the player has used triangle mode to avoid showing them help messages for it in the future
+			}
+			
+			@Override
+			public void onMusicStart(boolean practiceMode) {
+				// Choose the appropriate music depending on the mode and start playing it from the beginning
+				if (practiceMode) {
+					practiceMusic.setFramePosition(0);
+					practiceMusic.loop(Clip.LOOP_CONTINUOUSLY);
+				} else {
+					music.setFramePosition(0);
+					music.start();
+				}
+			}
+			
+			@Override
+			public void onMusicResume(boolean practiceMode) {
+				// Choose the appropriate music depending on the mode and start playing it
+				if (practiceMode) {
+					practiceMusic.loop(Clip.LOOP_CONTINUOUSLY);
+				} else {
+					music.start();
+				}
+			}
+			
+			@Override
+			public void onMusicStop() {
+				stopSounds();
+			}
+		});
+		
+		recording = new Replay(level); // Record the player's inputs so the session can be played back later
+		
+		publishRenderState(0, System.nanoTime()); // Make sure there is a state to draw before the first update
 	}
 	
 	/** Method Name: LevelView()
@@ -152,139 +190,230 @@ public class LevelView extends Drawable {
 	/** Method Name: generateImage()
 	 * @Author Colin Toft
 	 * @Date December 30th, 2019
-	 * @Modified January 9th & 16th, 2020
-	 * @Description Overrides Drawable.generateImage(): loads the images needed to display the level (background, ground, ceiling, obstacles and checkpoints)
+	 * @Modified January 9th & 16th, 2020, October 17th, 2026
+	 * @Description Overrides Drawable.generateImage(): makes a new set of the images needed to display the level at the resolution it should be drawn at, and hands it to draw().
+	 * Usually runs on an ImageRegenerator thread, while draw() keeps using the old set (stretched over the view) until the new one is swapped in.
+	 * A set that no longer matches the view's size by the time it is finished is dropped, since a newer one was requested after the size changed, unless it is the first set
+	 * (draw() needs a set to draw with until the newer one is finished). Sets are made one at a time, so an older set is never handed over after a newer one
 	 * @Parameters N/A
 	 * @Returns N/A
-	 * Data Type: BufferedImage, Graphics, Color, int, Hashmap, Obstacle
+	 * Data Type: LevelImages, int
 	 * Dependencies: CGraphics library (by Colin)
 	 * Throws/Exceptions: N/A
 	 */
 	@Override
-	public void generateImage() {
-		// Load Background Image
-		BufferedImage originalBackground = Util.loadImageFromFile(getClass(), "backgrounds/background1classic.png");
-		backgroundImage = Util.scaleImage(originalBackground, pixelWidth(), pixelWidth());
-		
-		// Lay the background color over the background image
-		Graphics g = backgroundImage.createGraphics();
-		Color bgColor = new Color(level.backgroundColor.getRed(), level.backgroundColor.getGreen(), level.backgroundColor.getBlue(), 205);
-	    g.setColor(bgColor);
-	    g.fillRect(0, 0, backgroundImage.getWidth(), backgroundImage.getHeight());
-	    g.dispose();
-	    
-	    // Load Ground Image
-		groundTileWidth = (int)(pixelHeight() * groundHeight);
-		BufferedImage groundTile = Util.loadImageFromFile(getClass(), "backgrounds/ground1.png");
-		
-		// Draw the ground tile image multiple times to fill up the ground image
-		groundImage = Util.getEmptyImage((pixelWidth() / groundTileWidth + 2) * groundTileWidth, groundTileWidth);
-		g = groundImage.createGraphics();
-		for (int i = 0; i < groundImage.getWidth(); i += groundTileWidth) {
-			g.drawImage(groundTile, i, 0, groundTileWidth, groundTileWidth, null);
-		}
-		
-		// Lay the ground Color over the ground image, then a mostly transparent layer of black to make it slightly darker
-		g.setColor(bgColor);
-	    g.fillRect(0, 0, groundImage.getWidth(), groundImage.getHeight());
-	    g.setColor(new Color(0, 0, 0, 50));
-	    g.fillRect(0, 0, groundImage.getWidth(), groundImage.getHeight());
-	    g.dispose();
-		
-		// Load Ceiling Image
-		BufferedImage ceilingTile = Util.loadImageFromFile(getClass(), "backgrounds/ceiling1.png");
-		
-		// Draw the ceiling tile image multiple times to fill up the ceiling image
-		ceilingImage = Util.getEmptyImage((pixelWidth() / groundTileWidth + 2) * groundTileWidth, groundTileWidth);
-		g = ceilingImage.createGraphics();
-		for (int i = 0; i < ceilingImage.getWidth(); i += groundTileWidth) {
-			g.drawImage(ceilingTile, i, 0, groundTileWidth, groundTileWidth, null);
+	public synchronized void generateImage() {
+		int width = targetWidth(), height = targetHeight();
+		LevelImages generated = new LevelImages(level, width, height, simulation.getGroundHeight(), getRenderQuality().bilinear);
+		if (nextImages == null || (width == targetWidth() && height == targetHeight())) {
+			nextImages = generated;
+		} else {
+			generated.flush();
+			return;
 		}
-		
-		// Lay the ground Color over the ceiling image, then a mostly transparent layer of black to make it slightly darker
-		g.setColor(bgColor);
-	    g.fillRect(0, 0, ceilingImage.getWidth(), ceilingImage.getHeight());
-	    g.setColor(new Color(0, 0, 0, 50));
-	    g.fillRect(0, 0, ceilingImage.getWidth(), ceilingImage.getHeight());
-	    g.dispose();
-	    
-	    // Load player circle image
-		BufferedImage originalPlayerImage = Util.loadImageFromFile(getClass(), "players/PlayerCircle.png");
-		playerCircleImage = Util.scaleImage(originalPlayerImage, (int)(getBlockSize() * playerWidth), (int)(getBlockSize() * playerWidth), false);
-		
-		// Load player triangle image
-		originalPlayerImage = Util.loadImageFromFile(getClass(), "players/PlayerTriangle.png");
-		// Use a larger image in order to add padding around the triangle image
-		playerTriangleImage = Util.getEmptyImage((int)(getBlockSize() * (1.5 * playerWidth + triangleImagePadding * 2)), (int)(getBlockSize() * (1 * playerWidth + triangleImagePadding * 2)));
-		g = playerTriangleImage.createGraphics();
-		g.drawImage(originalPlayerImage, (int)(getBlockSize() * triangleImagePadding), (int)(getBlockSize() * triangleImagePadding), (int)(getBlockSize() * 1.5 * playerWidth), (int)(getBlockSize() * playerWidth), null);
-		
-		// Load player upside down triangle image
-		originalPlayerImage = Util.loadImageFromFile(getClass(), "players/playerTriangleUpsideDown.png");
-		// Use a larger image in order to add padding around the triangle images
-		playerTriangleUpsideDownImage = Util.getEmptyImage((int)(getBlockSize() * (1.5 * playerWidth + triangleImagePadding * 2)), (int)(getBlockSize() * (1 * playerWidth + triangleImagePadding * 2)));
-		g = playerTriangleUpsideDownImage.createGraphics();
-		g.drawImage(originalPlayerImage, (int)(getBlockSize() * triangleImagePadding), (int)(getBlockSize() * triangleImagePadding), (int)(getBlockSize() * 1.5 * playerWidth), (int)(getBlockSize() * playerWidth), null);
-		
-		// Load Obstacle Images
-		images = new HashMap<Obstacle, BufferedImage>();
-		BufferedImage image;
-		// Loop through each obstacle type and put its corresponding image in the hashmap
-		for (Obstacle type: Obstacle.values()) {
-			image = Util.loadImageFromFile(getClass(), type.getImageFilename());
-			image = Util.scaleImage(image, (getBlockSize() + 1) / image.getWidth());
-			images.put(type, image);
+		if (disposed) {
+			generated.flush(); // dispose() may have run before the new images were handed over, in which case it did not release them
+			return;
 		}
 		
-		// Load checkpoint image
-		checkpointImage = Util.loadImageFromFile(getClass(), "other/checkpoint.png");
-		checkpointImage = Util.scaleImage(checkpointImage, getBlockSize() * 0.5 / checkpointImage.getWidth());
-		
 		super.generateImage();
 	}
 	
+	/** Method Name: dispose()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified October 17th, 2026
+	 * @Description Overrides Drawable.dispose(): saves the recording if the player is leaving for the main menu, then releases the video memory used by the background images,
+	 * the pre-drawn obstacles and the lower resolution frame when the scene is closed. Images still being made in the background are released by generateImage() once they are finished.
+	 * When the game changes scenes this runs on the game loop thread between updates, so the recording is complete and no longer being added to
+	 * @Parameters N/A
+	 * @Returns N/A
+	 * Data Type: boolean, LevelImages, VolatileImage, Graphics2D
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	@Override
+	public void dispose() {
+		if (savingRecording) {
+			saveRecording();
+		}
+		super.dispose();
+		disposed = true;
+		LevelImages next = nextImages;
+		if (images != null) {
+			images.flush();
+		}
+		if (next != null && next != images) {
+			next.flush();
+		}
+		if (frameGraphics != null) {
+			frameGraphics.dispose();
+			frameGraphics = null;
+			currentFrame = null;
+		}
+		if (acceleratedFrame != null) {
+			acceleratedFrame.flush();
+			acceleratedFrame = null;
+		}
+	}
+	
+	/** Method Name: getFrameGraphics()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified October 17th, 2026
+	 * @Description Chooses the frame that the level is drawn into when the images are not the size of the view, creating it if its size has changed. The frame is kept in video memory when drawing to a screen that can accelerate it, and is a BufferedImage otherwise.
+	 * The graphics object that draws into the frame is kept between frames, and only replaced along with the frame (or when the frame in video memory is restored)
+	 * @Parameters
+	 *      - Graphics2D screen: the graphics object that the frame will be stretched onto
+	 * @Returns A graphics object that draws into the frame, which must not be disposed
+	 * Data Type: Graphics2D, GraphicsConfiguration, GraphicsDevice, VolatileImage, BufferedImage, int
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	private Graphics2D getFrameGraphics(Graphics2D screen) {
+		int width = renderWidth(), height = renderHeight();
+		GraphicsConfiguration gc = screen.getDeviceConfiguration();
+		if (gc.getDevice().getType() != GraphicsDevice.TYPE_IMAGE_BUFFER) {
+			// The whole frame is drawn again every time, so a frame whose contents were lost only needs to be usable, not restored
+			int status = VolatileImage.IMAGE_INCOMPATIBLE;
+			if (acceleratedFrame == null || acceleratedFrame.getWidth() != width || acceleratedFrame.getHeight() != height || (status = acceleratedFrame.validate(gc)) == VolatileImage.IMAGE_INCOMPATIBLE) {
+				if (acceleratedFrame != null) {
+					acceleratedFrame.flush();
+				}
+				acceleratedFrame = gc.createCompatibleVolatileImage(width, height, Transparency.OPAQUE);
+			}
+			if (acceleratedFrame != null && acceleratedFrame.getCapabilities().isAccelerated()) {
+				if (currentFrame != acceleratedFrame || status != VolatileImage.IMAGE_OK) {
+					setFrame(acceleratedFrame, acceleratedFrame.createGraphics());
+				}
+				return frameGraphics;
+			}
+		}
+		if (frame == null || frame.getWidth() != width || frame.getHeight() != height) {
+			frame = Util.getOpaqueImage(width, height);
+		}
+		if (currentFrame != frame) {
+			setFrame(frame, frame.createGraphics());
+		}
+		return frameGraphics;
+	}
+	
+	/** Method Name: setFrame()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Switches to drawing into another frame, disposing the graphics object of the previous one
+	 * @Parameters
+	 *      - Image image: the new frame
+	 *      - Graphics2D graphics: a graphics object that draws into the new frame
+	 * @Returns N/A
+	 * Data Type: Image, Graphics2D
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	private void setFrame(Image image, Graphics2D graphics) {
+		if (frameGraphics != null) {
+			frameGraphics.dispose();
+		}
+		currentFrame = image;
+		frameGraphics = graphics;
+	}
+	
 	/** Method Name: draw()
 	 * @Author Colin Toft
 	 * @Date December 30th, 2019
-	 * @Modified January 8th, 9th, 13th, 14th & 15th, 2020
-	 * @Description Overrides Drawable.draw(): draws the level and player to the screen
+	 * @Modified January 8th, 9th, 13th, 14th & 15th, 2020, October 17th, 2026
+	 * @Description Overrides Drawable.draw(): draws the level and player to the screen, at the render quality chosen by the game and the render resolution chosen by the user
 	 * @Parameters N/A
 	 * @Returns N/A
-	 * Data Type: BufferedImage, Graphics, int, boolean, BasicStroke, Color, double, AffineTransform, Obstacle
+	 * Data Type: BufferedImage, Graphics, int, boolean, BasicStroke, Color, double, LevelImages, AcceleratedLayer, RotationCache, LevelChunkCache, RenderingHints, ImageRegenerator
 	 * Dependencies: CGraphics library (by Colin)
 	 * Throws/Exceptions: N/A
 	 */
 	@Override
 	public void draw(Graphics g) {
-		Graphics2D g2d = (Graphics2D) g; // Convert the Graphics object to Graphics2D in order to use extra commands
+		Graphics2D screen = (Graphics2D) g; // Convert the Graphics object to Graphics2D in order to use extra commands
+		
+		// Swap in the newest images, so the whole frame is drawn with one set
+		LevelImages next = nextImages;
+		if (next != images) {
+			if (images != null) {
+				images.flush();
+			}
+			images = next;
+		}
+		if (images == null) {
+			return; // The first set of images is still being made
+		}
+		
+		// Follow the quality chosen by the game, regenerating the images in the background if the resolution the level is drawn at has changed
+		RenderQuality quality = getRenderQuality();
+		double targetScale = targetRenderScale(quality);
+		if (targetScale != renderScale) {
+			renderScale = targetScale;
+			ImageRegenerator.execute(new Runnable() {
+				@Override
+				public void run() {
+					generateImage();
+				}
+			});
+		} else {
+			images.requestPlayerRotations(quality.bilinear); // Until the new rotations are finished, the player keeps being drawn with the old ones
+		}
+		
+		// When the images are not the size of the view (below full resolution, or while new ones are being made), draw into a frame of their size and stretch it over the view at the end
+		Graphics2D g2d = screen;
+		if (renderWidth() != pixelWidth() || renderHeight() != pixelHeight()) {
+			g2d = getFrameGraphics(screen);
+			g2d.setColor(Color.BLACK);
+			g2d.fillRect(0, 0, renderWidth(), renderHeight());
+		}
+		quality.applyHints(g2d);
+		
+		// Draw from the latest snapshot published by update() rather than the live fields, since the update may be running on another thread
+		LevelRenderState state = renderStates.getReadBuffer();
+		boolean triangleMode = state.triangleMode, upsideDownMode = state.upsideDownMode, hasDied = state.hasDied, hasBeatLevel = state.hasBeatLevel;
+		double playerRotation = state.playerRotation;
+		
+		// Draw the player in between the previous and current update so movement stays smooth when updates and frames do not line up
+		double interpolation = state.getInterpolation(System.nanoTime());
+		renderPlayerX = state.prevPlayerX + (state.playerX - state.prevPlayerX) * interpolation;
+		renderPlayerY = state.prevPlayerY + (state.playerY - state.prevPlayerY) * interpolation;
+		renderGroundHeight = state.groundHeight;
 	    
 		// First draw the background image
-		int backgroundX = (int)(-getBlockSize() * (playerX * backgroundSpeed % (backgroundImage.getWidth() / getBlockSize()))); // Calculate the correct position using the player's x coordinate
+		int backgroundX = (int)(-getBlockSize() * (renderPlayerX * backgroundSpeed % (images.backgroundLayer.getWidth() / getBlockSize()))); // Calculate the correct position using the player's x coordinate
 		if (backgroundX > 0) {
-			backgroundX -= backgroundImage.getWidth();
+			backgroundX -= images.backgroundLayer.getWidth();
 	    }
-		// Since the background loops it needs to be drawn twice, one next to the other
-	    g2d.drawImage(backgroundImage, backgroundX, pixelHeight() - backgroundImage.getHeight(), null);
-	    g2d.drawImage(backgroundImage, backgroundX + backgroundImage.getWidth(), pixelHeight() - backgroundImage.getHeight(), null);
+		if (quality.backgroundDetail) {
+			// Since the background loops it needs to be drawn twice, one next to the other
+		    images.backgroundLayer.draw(g2d, backgroundX, renderHeight() - images.backgroundLayer.getHeight());
+		    images.backgroundLayer.draw(g2d, backgroundX + images.backgroundLayer.getWidth(), renderHeight() - images.backgroundLayer.getHeight());
+		} else {
+			// At the lowest quality, skip the background image and just fill the view with the level's colour
+			g2d.setColor(level.backgroundColor);
+			g2d.fillRect(0, 0, renderWidth(), renderHeight());
+		}
 	    
 	    // Draw the ground
-	    int groundX = (int)(-getBlockSize() * (playerX % (groundTileWidth / getBlockSize()))); // Calculate the correct position using the player's x coordinate
+	    int groundX = (int)(-getBlockSize() * (renderPlayerX % (images.groundTileWidth / getBlockSize()))); // Calculate the correct position using the player's x coordinate
 	    if (groundX > 0) {
-	    	groundX -= groundTileWidth;
+	    	groundX -= images.groundTileWidth;
 	    }
 	    
-	    g2d.drawImage(groundImage, groundX, (int)(pixelHeight() * (1 - groundHeight)), null);
+	    images.groundLayer.draw(g2d, groundX, (int)(renderHeight() * (1 - renderGroundHeight)));
 	    
 	    // Draw a white line across the top of the ground
-	    g2d.setStroke(new BasicStroke(2f));
+	    g2d.setStroke(lineStroke);
 	    g2d.setColor(Color.WHITE);
-	    g2d.drawLine(0, (int)(pixelHeight() * (1 - groundHeight)) + 2, pixelWidth(), (int)(pixelHeight() * (1 - groundHeight)) + 2);
+	    g2d.drawLine(0, (int)(renderHeight() * (1 - renderGroundHeight)) + 2, renderWidth(), (int)(renderHeight() * (1 - renderGroundHeight)) + 2);
 	    
 	    // Draw the ceiling in the same way if the player is in triangle mode
 	    if (triangleMode || upsideDownMode) {
-		    g2d.drawImage(ceilingImage, groundX, (int)(pixelHeight() * (0.5 / levelHeight) - ceilingImage.getHeight()), null);
+		    images.ceilingLayer.draw(g2d, groundX, (int)(renderHeight() * (0.5 / levelHeight) - images.ceilingLayer.getHeight()));
 		    // Draw a white line at the bottom of the ceiling
-		    g2d.drawLine(0, (int)(pixelHeight() * (0.5 / levelHeight)), pixelWidth(), (int)(pixelHeight() * (0.5 / levelHeight)));
+		    g2d.drawLine(0, (int)(renderHeight() * (0.5 / levelHeight)), renderWidth(), (int)(renderHeight() * (0.5 / levelHeight)));
 	    }
 	    
 	    // Draw the player
@@ -294,75 +423,98 @@ public class LevelView extends Drawable {
 	    		// If the player has beat the level, animate their x, y and rotation based on the winTimer
 	    		int beginX = blockXToPixelX(level.width);
 	    		int endX = blockXToPixelX(level.width + levelEndOffset);
-	    		double endProgress = Math.pow(winTimer / winAnimationLength, 2.5);
+	    		double endProgress = Math.pow(state.winTimer / LevelSimulation.winAnimationLength, 2.5);
 	    		playerRotation = endProgress * Math.PI * 0.7;
 			    playerImageX = (int)(beginX + (endX - beginX) * endProgress);
-				playerImageY = blockYToPixelY(playerY + playerWidth + -7 * (endProgress) * (endProgress - 1.6));
+				playerImageY = blockYToPixelY(renderPlayerY + playerWidth + -7 * (endProgress) * (endProgress - 1.6));
 	    	} else {
 	    		// Calculate the pixel coordinates where the player should be drawn
-	    		playerImageX = (int)(pixelWidth() * playerScreenX);
-	    		playerImageY = blockYToPixelY(playerY + playerWidth);
+	    		playerImageX = (int)(renderWidth() * playerScreenX);
+	    		playerImageY = blockYToPixelY(renderPlayerY + playerWidth);
 	    	}
 			
-	    	// Rotate the player's image and then draw its to the screen
+	    	// Draw the copy of the player's image that is rotated closest to the player's rotation
 	    	if (!hasBeatLevel || playerImageX < blockXToPixelX(level.width + levelEndOffset + playerWidth)) {
-	    		// Create the AffineTransform objects needed to do the rotation
-				AffineTransform backup = g2d.getTransform();
-				AffineTransform rotate;
-				if (triangleMode) {
-					// Rotate the player while accounting for the padding on the triangle image, then draw it the at the previously calculated coordinates
-					rotate = AffineTransform.getRotateInstance(playerRotation, playerTriangleImage.getWidth() / 2.0, playerTriangleImage.getHeight() / 2.0);
-				    AffineTransformOp op = new AffineTransformOp(rotate, AffineTransformOp.TYPE_BILINEAR);
-					int padding = (int)(triangleImagePadding * getBlockSize());
-			    	g2d.drawImage(op.filter(upsideDownMode ? playerTriangleUpsideDownImage : playerTriangleImage, null), playerImageX - padding, playerImageY - padding, null);
-				} else {
-					// Rotate the player then draw it the at the previously calculated coordinates
-					rotate = AffineTransform.getRotateInstance(playerRotation, playerCircleImage.getWidth() / 2.0, playerCircleImage.getHeight() / 2.0);
-				    AffineTransformOp op = new AffineTransformOp(rotate, AffineTransformOp.TYPE_BILINEAR);
-			    	g2d.drawImage(op.filter(playerCircleImage, null), playerImageX, playerImageY, null);
-				}
-			   
-				// Restore the previous transform so the other images will not appear rotated as well
-			    g2d.setTransform(backup);
+	    		RotationCache rotations = triangleMode ? (upsideDownMode ? images.playerTriangleUpsideDownRotations : images.playerTriangleRotations) : images.playerCircleRotations;
+	    		// The rotated copies have extra room around the image, so move them back by that much to keep the image at the previously calculated coordinates
+	    		g2d.drawImage(rotations.get(playerRotation), playerImageX - rotations.getOffsetX(), playerImageY - rotations.getOffsetY(), null);
 	    	}
 	    }
 	    
-	    // Draw obstacles
-	    Obstacle o;
-	    // Loop through the x and y coordinates that are currently in view
-	    for (int obstacleX = Math.max(0, (int) screenXToBlockX(0)); obstacleX < Math.min((int) screenXToBlockX(1) + 1, level.width); obstacleX++) {
-	    	for (int obstacleY = Math.max(0, (int) screenYToBlockY(1)); obstacleY < Math.min((int) screenYToBlockY(0) + 1, level.height); obstacleY++) {
-    			o = level.obstacles[obstacleX][obstacleY]; // Find the obstacle at those coordinates
-    			if (o != null) {
-    				// If there is an obstacle there, draw it
-    				BufferedImage image = images.get(o);
-    				if (o == Obstacle.YELLOW_PAD_UPSIDE_DOWN) {
-    					g2d.drawImage(image, blockXToPixelX(obstacleX), blockYToPixelY(obstacleY + 1), null);
-    				} else {
-    					g2d.drawImage(image, blockXToPixelX(obstacleX), blockYToPixelY(obstacleY) - image.getHeight(), null);
-    				}
-    			}
+	    // Draw obstacles, using the pre-drawn chunk of each group of columns in view when it is ready
+	    int firstColumn = Math.max(0, (int) screenXToBlockX(0)), endColumn = Math.min((int) screenXToBlockX(1) + 1, level.width);
+	    int chunkWidth = LevelChunkCache.chunkWidth;
+	    for (int chunk = firstColumn / chunkWidth; chunk * chunkWidth < endColumn; chunk++) {
+	    	BufferedImage chunkImage = images.obstacleChunks.get(chunk);
+	    	if (chunkImage != null) {
+	    		g2d.drawImage(chunkImage, blockXToPixelX(chunk * chunkWidth), blockYToPixelY(0) - images.obstacleChunks.getBaseline(), null);
+	    	} else {
+	    		// The chunk is still being drawn in the background, so draw its obstacles one by one this frame
+	    		drawObstacles(g2d, Math.max(firstColumn, chunk * chunkWidth), Math.min(endColumn, (chunk + 1) * chunkWidth));
 	    	}
 	    }
+	    // Get the next chunk ready before it comes into view
+	    images.obstacleChunks.prefetch((endColumn - 1) / chunkWidth + 1);
 	    
 	    // Draw the end of the level
 	    if (screenXToBlockX(1) > level.width + levelEndOffset) {
 	    	// Draw a large black wall
 	    	g2d.setColor(Color.BLACK);
-	    	g2d.fillRect(blockXToPixelX(level.width + levelEndOffset), 0, pixelWidth() - blockXToPixelX(level.width + levelEndOffset), (int)(pixelHeight() * Math.min(1, 1 - groundHeight)));
+	    	g2d.fillRect(blockXToPixelX(level.width + levelEndOffset), 0, renderWidth() - blockXToPixelX(level.width + levelEndOffset), (int)(renderHeight() * Math.min(1, 1 - renderGroundHeight)));
 	    	// Draw a white line on the left of the wall
 	    	g2d.setColor(Color.WHITE);
-	    	g2d.fillRect(blockXToPixelX(level.width + levelEndOffset), 0, (int)(pixelWidth() * 0.005), (int)(pixelHeight() * Math.min(1, 1 - groundHeight)));
+	    	g2d.fillRect(blockXToPixelX(level.width + levelEndOffset), 0, (int)(renderWidth() * 0.005), (int)(renderHeight() * Math.min(1, 1 - renderGroundHeight)));
 	    }
 	    
-	    if (practiceMode) {
+	    if (state.practiceMode) {
 	    	// Draw checkpoints if the game is currently in practice mode
-	    	if (checkpointX > 0) {
-	    		g2d.drawImage(checkpointImage, blockXToPixelX(checkpointX) + (int)(getBlockSize() - checkpointImage.getWidth()) / 2, blockYToPixelY(checkpointY + 1) + (int)(getBlockSize() - checkpointImage.getHeight()) / 2, null);
+	    	if (state.checkpointX > 0) {
+	    		g2d.drawImage(images.checkpointImage, blockXToPixelX(state.checkpointX) + (int)(getBlockSize() - images.checkpointImage.getWidth()) / 2, blockYToPixelY(state.checkpointY + 1) + (int)(getBlockSize() - images.checkpointImage.getHeight()) / 2, null);
 	    	}
 	    	
-	    	if (prevCheckpointX > 0) {
-	    		g2d.drawImage(checkpointImage, blockXToPixelX(prevCheckpointX) + (int)(getBlockSize() - checkpointImage.getWidth()) / 2, blockYToPixelY(prevCheckpointY + 1) + (int)(getBlockSize() - checkpointImage.getHeight()) / 2, null);
+	    	if (state.prevCheckpointX > 0) {
+	    		g2d.drawImage(images.checkpointImage, blockXToPixelX(state.prevCheckpointX) + (int)(getBlockSize() - images.checkpointImage.getWidth()) / 2, blockYToPixelY(state.prevCheckpointY + 1) + (int)(getBlockSize() - images.checkpointImage.getHeight()) / 2, null);
+	    	}
+	    }
+	    
+	    if (g2d != screen) {
+	    	// Stretch the smaller frame over the whole view
+	    	quality.applyHints(screen);
+	    	if (upscaleInterpolation != null) {
+	    		screen.setRenderingHint(RenderingHints.KEY_INTERPOLATION, upscaleInterpolation);
+	    	}
+	    	screen.drawImage(currentFrame, 0, 0, pixelWidth(), pixelHeight(), null);
+	    }
+	}
+	
+	/** Method Name: drawObstacles()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Draws the obstacles in a range of columns that are in view one by one, for chunks that have not been pre-drawn yet
+	 * @Parameters
+	 *      - Graphics2D g2d: the graphics object to draw with
+	 *      - int firstColumn: the first column of blocks to draw
+	 *      - int endColumn: the column after the last one to draw
+	 * @Returns N/A
+	 * Data Type: Graphics2D, Obstacle, int, LevelImages, ObstacleAtlas
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	private void drawObstacles(Graphics2D g2d, int firstColumn, int endColumn) {
+	    Obstacle o;
+	    // Loop through the x and y coordinates that are currently in view
+	    for (int obstacleX = firstColumn; obstacleX < endColumn; obstacleX++) {
+	    	for (int obstacleY = Math.max(0, (int) screenYToBlockY(1)); obstacleY < Math.min((int) screenYToBlockY(0) + 1, level.height); obstacleY++) {
+    			o = level.obstacles[obstacleX][obstacleY]; // Find the obstacle at those coordinates
+    			if (o != null) {
+    				// If there is an obstacle there, draw its part of the atlas
+    				if (o == Obstacle.YELLOW_PAD_UPSIDE_DOWN) {
+    					images.obstacleAtlas.draw(g2d, o, blockXToPixelX(obstacleX), blockYToPixelY(obstacleY + 1));
+    				} else {
+    					images.obstacleAtlas.draw(g2d, o, blockXToPixelX(obstacleX), blockYToPixelY(obstacleY) - images.obstacleAtlas.getHeight(o));
+    				}
+    			}
 	    	}
 	    }
 	}
@@ -370,8 +522,9 @@ public class LevelView extends Drawable {
 	/** Method Name: update()
 	 * @Author Colin Toft
 	 * @Date December 30th, 2019
-	 * @Modified January 7th, 9th, 10th, 13th, 14th, 15th, 17th, 19th, 21st & 23rd, 2020
-	 * @Description Overrides Drawable.update(): updates the level, including updating player position, handling music and calculating physics
+	 * @Modified January 7th, 9th, 10th, 13th, 14th, 15th, 17th, 19th, 21st & 23rd, 2020, October 17th, 2026
+	 * @Description Overrides Drawable.update(): steps the level simulation (in fixed ticks in deterministic mode) and publishes a snapshot of it for drawing.
+	 * Input events are applied at the point of the simulation closest to when they happened: between the fixed ticks in deterministic mode, or by splitting the step in two otherwise
 	 * @Parameters
 	 *      - double dt: The time in seconds since the last time update was called
 	 * @Returns N/A
@@ -381,544 +534,379 @@ public class LevelView extends Drawable {
 	 */
 	@Override
 	public void update(double dt) {
-		if (!triangleMode) {
-			// If the player is in circle mode, rotate them to simulate rolling along the ground
-			playerRotation += (upsideDownMode ? -playerRotationSpeed : playerRotationSpeed) * dt;
-			playerRotation %= 2 * Math.PI;
-		}
-		
-		if (!hasDied && !hasBeatLevel) {
-			// Move the player to the right
-			playerX += xSpeed * dt;
-		}
+		long updateTime = getGame() != null ? getGame().getUpdateTime() : System.nanoTime();
 		
-		
-		boolean justLanded = false;
-		double minY = getMinY(); // Find the y coordinate of the ground or obstacle beneath the player
-		double maxY = getMaxY(); // Find the y coordinate of the ground or obstacle beneath the player
-		
-		if ((playerY > minY || ySpeed != 0) && !hasBeatLevel) { // If the player is in the air
-			if (!triangleMode) {
-				// If the player is in circle mode, simulate gravity by lowering their ySpeed
-				ySpeed = Math.max(ySpeed - gravity * dt * (upsideDownMode ? -1 : 1), minYSpeed);
-			} else if (!jumping) {
-				// If the player is in triangle mode but not holding the mouse or space bar, their y speed is also lowered
-				if (upsideDownMode) {
-					ySpeed = Math.min(ySpeed + triangleYSpeedIncrease * dt, triangleMode ? -triangleMinYSpeed : -minYSpeed);
-				} else {
-					ySpeed = Math.max(ySpeed - triangleYSpeedIncrease * dt, triangleMode ? triangleMinYSpeed : minYSpeed);
-				}
-			}
+		if (!deterministic) {
+			// Remember where the player was so that frames drawn before the next update can be interpolated
+			prevPlayerX = simulation.getPlayerX();
+			prevPlayerY = simulation.getPlayerY();
 			
-			// Adjust the player's y coordinate based on their y speed
-			playerY += ySpeed * dt;
-		}
-				
-		boolean circleHitCeiling = false; // True if the player is in circle mode and has gone above the max y coordinate (ran into an obstacle above them)
-
-		if (playerY <= minY && ySpeed <= 0) { // If the player is on the ground
-			justLanded = ySpeed < 0; // If the y speed is smaller than 0, the player is falling and must have just landed on the ground
-			
-			// The player is on the ground, so set y speed to 0 and the y coordinate to the exact y coordinate of the ground
-			ySpeed = 0;
-			playerY = minY;
-			lastGroundY = playerY; // Store the y coordinate of the last time the player was on the ground
-			
-			if (upsideDownMode && justLanded && !triangleMode) {
-				circleHitCeiling = true;
-			}
-			
-			if (jumping && !triangleMode) {
-				// If the player is jumping (holding down the mouse or space bar), call the jump method
-				jump();
-				holding = true; // The player is now holding the mouse/space bar
-			}
-		} else if (isTouchingYellowRing() && jumping && !holding) {
-			// The yellow ring has the same effect as the player jumping
-			jump();
-			holding = true;
-		}
-		
-		
-		if (playerY >= maxY - playerWidth && ySpeed >= 0) { // If the player is moving upwards and is running into an obstacle above them
-			if (triangleMode) {
-				// If the player hits a ceiling in triangle mode, set their y speed to 0 and make their y coordinate equal to the exact position beneath the obstacle
-				ySpeed = 0;
-				playerY = maxY - playerWidth;
-				
-			} else {
-				if (upsideDownMode) {
-					justLanded = ySpeed > 0; // If the y speed is larger than 0, the player is moving upwards and must have just landed on the ceiling
-					ySpeed = 0;
-					playerY = maxY - playerWidth;
-					lastGroundY = playerY;
-					
-					if (jumping) {
-						jump();
-						holding = true;
-					}
-				} else {
-					circleHitCeiling = true; // The player is in circle mode and hit a ceiling, meaning they should be killed
+			// This update simulates the time from dt seconds before updateTime until updateTime, so step up to each input that happened in between and apply it there
+			long stepStart = updateTime - (long) (dt * 1000000000);
+			double simulated = 0;
+			while (!inputs.isEmpty() && inputs.peekTime() < updateTime) {
+				double eventTime = Util.constrain((inputs.peekTime() - stepStart) / 1000000000.0, simulated, dt);
+				if (eventTime > simulated) {
+					simulation.step(eventTime - simulated);
+					simulated = eventTime;
 				}
+				applyInput(inputs.poll());
 			}
-		}
-		
-		double targetGroundHeight; // The height that the ground should be drawn at (in screen coordinates) based on the player's y coordinate
-		if (triangleMode) {
-			if (jumping) {
-				// If the player is holding the mouse/space bar in triangle mode, increase their y speed
-				if (upsideDownMode) {
-					ySpeed = Math.max(-triangleMaxYSpeed, ySpeed - triangleYSpeedIncrease * dt);
-				} else {
-					ySpeed = Math.min(triangleMaxYSpeed, ySpeed + triangleYSpeedIncrease * dt);
-				}
-				if (!hasUsedTriangleMode) {
-					hasUsedTriangleMode = true;
-					((ShapeSprint) getGame()).hasUsedTriangleMode = true; // Remember that the player has used triangle mode to avoid showing them help messages for it in the future
-				}
-			}
-			if (playerY == minY) {
-				playerRotation = Math.max(playerRotation - playerRotationSpeed * 0.5 * dt, 0); // If the player is on the ground, gradually move their rotation to 0
-			} else if (playerY == maxY - playerWidth) {
-				playerRotation = Math.min(playerRotation + playerRotationSpeed * 0.5 * dt, 0); // If the player is on the ceiling, gradually move their rotation to 0
-			} else {
-				playerRotation = Math.atan2(-ySpeed, xSpeed); // If the player is in the air, set their rotation according to their speed to make them point in that direction
-			}
-			
-			targetGroundHeight = 0.5 / levelHeight; // In triangle mode the ground height always stays the same
-		} else {
-			if (upsideDownMode) {
-				targetGroundHeight = 0.5 / levelHeight; // In upside down mode the ground height always stays the same
-			} else {
-				// If the player is in normal circle mode, calculate the ground height based on the player's y coordinate
-				targetGroundHeight = Math.min(baseGroundHeight, groundHeightThreshold - (Math.min(lastGroundY, playerY) * getBlockSize() / pixelHeight()));
-			}
-		}
-		
-		double groundHeightTolerance = (triangleMode || upsideDownMode) ? 0 : 0.1; // It is acceptable if the ground height is within this amount of its target value
-		
-		// Move the ground height towards the target ground height if necessary
-		if (targetGroundHeight < groundHeight - groundHeightTolerance && !hasBeatLevel && !hasDied) {
-			groundHeight = Math.max(targetGroundHeight, groundHeight - groundHeightMoveSpeed * Math.max(ySpeed, xSpeed) * dt);
-		} else if (targetGroundHeight > groundHeight + groundHeightTolerance && !hasBeatLevel && !hasDied) {
-			groundHeight = Math.min(targetGroundHeight, groundHeight + groundHeightMoveSpeed * Math.max(ySpeed, xSpeed) * dt);
-		}
-
-		if (!hasDied && (shouldDie() || circleHitCeiling)) {
-			// If the player has been killed, start the death sound and death timer
-			hasDied = true;
-			deathTimer = 0;
-			if (!practiceMode) {
-				// Stop the music, but not in practice mode since the music in practice mode should continuously loop
-				stopMusic();
-			}
-			// Play the death sound effect
-			deathSound.setFramePosition(0);
-			deathSound.start();
-		}
-		
-		updateMode(); // Updates the players mode to triangle mode or circle mode if they are traveling through a portal
-		
-		if (isTouchingYellowPad()) {
-			ySpeed = upsideDownMode ? -yellowPadYSpeed : yellowPadYSpeed;
-			lastGroundY = playerY;
-		}
-		
-		if (practiceMode && !hasDied && !hasBeatLevel && (justLanded || triangleMode) && playerX - checkpointX > 15) {
-			// If the user is in practice mode, create a checkpoint if they have just landed and are far enough away from the last checkpoint
-			createCheckpoint();
-		}
-		
-		if (hasDied) {
-			jumping = false;
-			// If the player has already died, increase the death timer
-			deathTimer += dt;
-			if (deathTimer > 1) {
-				// After the death timer has reached one second, start the next attempt
-				deathSound.stop();
-				startNextAttempt();
+			if (dt > simulated) {
+				simulation.step(dt - simulated);
 			}
+			publishRenderState(dt, updateTime);
 			return;
 		}
 		
-		if (playerX > level.width && !hasBeatLevel) {
-			// The player has reached the end of the level
-			hasBeatLevel = true;
-			jumping = false;
-			winTimer = 0; // Start the win timer to time the ending animation
-			if (practiceMode) { // Only stop the music in practice mode, since in normal mode the music ends at the end of the level
-				stopMusic();
+		// In deterministic mode, simulate as many fixed ticks as fit in the time that has passed (more when fast forwarding a replay)
+		double speed = replayPlayer != null ? playbackSpeed : 1;
+		tickAccumulator += dt * speed;
+		boolean stepped = false;
+		while (tickAccumulator >= LevelSimulation.tickLength) {
+			prevPlayerX = simulation.getPlayerX();
+			prevPlayerY = simulation.getPlayerY();
+			
+			if (replayPlayer != null && replayPlayer.advance(1) == 0) {
+				replayPlayer = null; // The replay has ended, so give control back to the player
 			}
-			// Play the win sound
-			winSound.setFramePosition(0);
-			winSound.start();
-		}
-		
-		if (hasBeatLevel) {
-			// Increase the win timer
-			winTimer += dt;
-			if (winTimer > winAnimationLength + 0.7) {
-				// After the win animation is finished, show the win screen
-				((PlayLevel) parentPanel).showWinScreen();
+			if (replayPlayer == null) {
+				// This tick simulates the tick length starting tickAccumulator seconds before updateTime, so apply the inputs that happened before its middle
+				long tickStart = updateTime - (long) (tickAccumulator * 1000000000);
+				applyInputs(tickStart + (long) (LevelSimulation.tickLength * 500000000));
+				simulation.step();
 			}
+			tickAccumulator -= LevelSimulation.tickLength;
+			stepped = true;
 		}
 		
-		if (!playingMusic && playerX >= 0 + (level.musicOffset * xSpeed) && !hasDied && !hasBeatLevel) {
-			// If the music is not playing, start it
-			startMusic();
-			playerX = Math.max(checkpointX, 0);
+		if (stepped) {
+			// The last tick ended a little before this update did, by the time left in the accumulator
+			publishRenderState(LevelSimulation.tickLength / speed, updateTime - (long) (tickAccumulator / speed * 1000000000));
 		}
 	}
 	
-	/** Method Name: createCheckpoint()
-	 * @Author Colin Toft
-	 * @Date January 9th, 2020
-	 * @Modified January 22nd, 2020
-	 * @Description Creates a checkpoint at the current player location.
+	/** Method Name: applyInputs()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified October 17th, 2026
+	 * @Description Applies the queued input events that happened before the given time to the simulation, in the order they happened
+	 * @Parameters
+	 *      - long time: the System.nanoTime() to apply the events before (later events stay in the queue)
 	 * @Returns N/A
-	 * Data Type: double, boolean, int
+	 * Data Type: long, InputQueue
 	 * Dependencies: N/A
 	 * Throws/Exceptions: N/A
 	 */
-	private void createCheckpoint() {
-		// Assign the values of the most recent checkpoint to the previous checkpoint
-		prevCheckpointX = checkpointX;
-		prevCheckpointY = checkpointY;
-		prevCheckpointYSpeed = checkpointYSpeed;
-		prevCheckpointTriangleMode = checkpointTriangleMode;
-		prevCheckpointUpsideDownMode = checkpointUpsideDownMode;
-		
-		// Update the checkpoint to current player position
-		checkpointX = playerX;
-		checkpointY = playerY;
-		checkpointYSpeed = ySpeed;
-		checkpointTriangleMode = triangleMode;
-		checkpointUpsideDownMode = upsideDownMode;
-		checkpointDeathCount = 0;
+	private void applyInputs(long time) {
+		while (!inputs.isEmpty() && inputs.peekTime() < time) {
+			applyInput(inputs.poll());
+		}
 	}
 	
-	/** Method Name: deleteCheckpoint()
-	 * @Author Colin Toft
-	 * @Date January 17th, 2020
-	 * @Modified January 22nd, 2020
-	 * @Description Deletes the most recent checkpoint.
+	/** Method Name: applyInput()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Applies an input event to the simulation, recording it if a recording is in progress
+	 * @Parameters
+	 *      - int event: the type of event (one of the Replay event types)
 	 * @Returns N/A
-	 * Data Type: double, boolean, int
+	 * Data Type: int, Replay, LevelSimulation
 	 * Dependencies: N/A
 	 * Throws/Exceptions: N/A
 	 */
-	private void deleteCheckpoint() {
-		checkpointX = prevCheckpointX;
-		checkpointY = prevCheckpointY;
-		checkpointYSpeed = prevCheckpointYSpeed;
-		checkpointTriangleMode = prevCheckpointTriangleMode;
-		checkpointUpsideDownMode = prevCheckpointUpsideDownMode;
-		checkpointDeathCount = 0;
+	private void applyInput(int event) {
+		if (recording != null && deterministic) {
+			recording.add(simulation.getTick(), event);
+		}
+		ReplayPlayer.apply(simulation, event);
 	}
 	
-	/** Method Name: getMinY()
-	 * @Author Colin Toft
-	 * @Date January 7th, 2020
-	 * @Modified January 19th, 2020
-	 * @Description Finds the y coordinate of the ground beneath the player (highest solid obstacle underneath the player)
-	 * @Returns The y coordinate of the ground beneath the player
-	 * Data Type: double, Obstacle, boolean
+	/** Method Name: setDeterministic()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Chooses between stepping the simulation with fixed ticks (deterministic, the default) or with the length of each update. Turning deterministic mode off stops the recording
+	 * @Parameters
+	 *      - boolean deterministic: true to use fixed ticks
+	 * @Returns N/A
+	 * Data Type: boolean
 	 * Dependencies: N/A
 	 * Throws/Exceptions: N/A
 	 */
-	private double getMinY() {
-		double circleRadius = playerWidth * 0.5; // The radius of the player in blocks
-		double playerCenterX = playerX + circleRadius; // The x coordinate of the center of the player in blocks
-		
-		double minY = 0; // The y coordinate of the ground beneath the player
-		
-		// Loop through all obstacles the player could be touching
-		for (int obstacleX = (int) playerX; obstacleX <= (int) playerX + 1; obstacleX++) {
-			for (int obstacleY = (int)(playerY + playerWidth - 0.00001); obstacleY >= 0; obstacleY--) {
-				try {
-					if (level.obstacles[obstacleX][obstacleY] != null && level.obstacles[obstacleX][obstacleY].isSolid()) { // If there is a solid obstacle at this location
-						double blockMinY;
-						if ((int)playerCenterX == obstacleX) {
-							// If the player's center is on this block, set the minY to the top of this obstacle
-							blockMinY = obstacleY + 1;
-						} else {
-							double cornerX = Math.round(playerX);
-							// Calculate the exact minimum y for the player using math to account for the players circular shape on a corner of a square block
-							blockMinY = obstacleY + 1 - Math.abs(Math.cos(Math.asin((cornerX - playerCenterX) / circleRadius))) * circleRadius;
-						}
-						if (minY < blockMinY) {
-							// If the new calculated minY for this block is higher (closer to the player) than the previous value, store it in the minY variable
-							minY = blockMinY;
-						}
-						break;
-					}
-				} catch (ArrayIndexOutOfBoundsException e) {}
-			}
+	public void setDeterministic(boolean deterministic) {
+		this.deterministic = deterministic;
+		if (!deterministic) {
+			recording = null; // A recording is only useful if it can be played back exactly
 		}
-		
-		return minY;
 	}
 	
-	/** Method Name: getMaxY()
-	 * @Author Colin Toft
-	 * @Date January 16th, 2020
+	/** Method Name: setMaxStepLength()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
 	 * @Modified N/A
-	 * @Description Finds the y coordinate of the ceiling above the player (lowest solid obstacle above the player)
-	 * @Returns The y coordinate of the ceiling above the player
-	 * Data Type: double, Obstacle, boolean
+	 * @Description Sets the longest time the simulation moves the player in one go. When not in deterministic mode each update is one step, so longer updates
+	 * (at a low update rate or after a pause) are split into sub-steps of at most this length and the player cannot pass through obstacles.
+	 * Lengths shorter than a fixed tick split the fixed ticks too, so replays recorded with another length would not play back the same
+	 * @Parameters
+	 *      - double maxStepLength: the longest sub-step in seconds (one fixed tick by default)
+	 * @Returns N/A
+	 * Data Type: double, LevelSimulation
+	 * Dependencies: N/A
+	 * Throws/Exceptions: IllegalArgumentException if the length is not positive
+	 */
+	public void setMaxStepLength(double maxStepLength) {
+		simulation.setMaxStepLength(maxStepLength);
+	}
+	
+	/** Method Name: setRenderScale()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Chooses the fraction of the view's size in pixels to draw the level at, between 0.5 and 1. The images are generated at that size and the frame is stretched over the view, so drawing costs less on large screens
+	 * @Parameters
+	 *      - double scale: the fraction of the view's size to draw at (values outside 0.5 to 1 are clamped)
+	 * @Returns N/A
+	 * Data Type: double
 	 * Dependencies: N/A
 	 * Throws/Exceptions: N/A
 	 */
-	private double getMaxY() {
-		double circleRadius = playerWidth * 0.5; // The radius of the player in blocks
-		double playerCenterX = playerX + circleRadius; // The x coordinate of the center of the player in blocks
-		
-		double maxY = (triangleMode || upsideDownMode) ? levelHeight - 1 : 1000000; // The y coordinate of the ceiling or obstacle above the player
-		
-		// Loop through all obstacles the player could be touching
-		for (int obstacleX = (int) playerX; obstacleX <= (int) playerX + 1; obstacleX++) {
-			for (int obstacleY = (int)(playerY + playerWidth); obstacleY < level.height; obstacleY++) {
-				try {
-					if (level.obstacles[obstacleX][obstacleY] != null && level.obstacles[obstacleX][obstacleY].isSolid()) { // If there is a solid obstacle at this location
-						double blockMaxY;
-						if ((int)playerCenterX == obstacleX) { // If the player's center is on this block, set the maxY to the bottom of this obstacle
-							blockMaxY = obstacleY;
-						} else {
-							double cornerX = Math.round(playerX);
-							// Calculate the exact maximum y for the player using math to account for the players circular shape on a corner of a square block
-							blockMaxY = obstacleY + Math.abs(Math.cos(Math.asin((cornerX - playerCenterX) / circleRadius))) * circleRadius;
-						}
-						if (maxY > blockMaxY) {
-							// If the new calculated maxY for this block is lower (closer to the player) than the previous value, store it in the maxY variable
-							maxY = blockMaxY;
-						}
-						break;
-					}
-				} catch (ArrayIndexOutOfBoundsException e) {}
-			}
-		}
-		
-		return maxY;
+	public void setRenderScale(double scale) {
+		renderScaleSetting = Math.max(0.5, Math.min(1, scale));
 	}
 	
-	/** Method Name: shouldDie()
-	 * @Author Colin Toft
-	 * @Date January 7th, 2020
+	/** Method Name: setMaxRenderHeight()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
 	 * @Modified N/A
-	 * @Description Determines if a player is touching a triangle or is colliding with the side of a solid object
-	 * @Returns Whether or not the player should die based on these conditions
-	 * Data Type: Area, int, GeneralPath, Obstacle
+	 * @Description Limits how many pixels tall the level is drawn at (such as 720), whatever the size of the view. Views that are shorter than the limit are drawn at their own size
+	 * @Parameters
+	 *      - int height: the most pixels tall to draw the level at, or 0 for no limit
+	 * @Returns N/A
+	 * Data Type: int
 	 * Dependencies: N/A
 	 * Throws/Exceptions: N/A
 	 */
-	private boolean shouldDie() {
-		Area playerArea = new Area(new Ellipse2D.Double(playerX, playerY, playerWidth, playerWidth)); // Store the player's area
-		
-		// Loop through all obstacles that the player could be touching
-		for (int obstacleX = (int) playerX; obstacleX <= (int) playerX + 1; obstacleX++) {
-			for (int obstacleY = (int)(playerY + playerWidth); obstacleY >= 0; obstacleY--) {
-				try {
-					// If the obstacle is a triangle, store its area and see if it intersects with the player
-					if (level.obstacles[obstacleX][obstacleY] == Obstacle.TRIANGLE) {
-						GeneralPath triangleShape = new GeneralPath();
-						triangleShape.moveTo(obstacleX, obstacleY);
-						triangleShape.lineTo(obstacleX + 0.5, obstacleY + 1);
-						triangleShape.lineTo(obstacleX + 1, obstacleY);
-						triangleShape.closePath();
-						Area triangleArea = new Area(triangleShape);
-						triangleArea.intersect(playerArea); // Calculate the intersection between the player and the triangle
-						
-						if (!triangleArea.isEmpty()) {
-							return true; // The player intersects with the triangle's area
-						}
-					// If the obstacle is an upside down triangle, store its area and see if it intersects with the player
-					} else if (level.obstacles[obstacleX][obstacleY] == Obstacle.TRIANGLE_UPSIDE_DOWN) {
-						GeneralPath triangleShape = new GeneralPath();
-						triangleShape.moveTo(obstacleX, obstacleY + 1);
-						triangleShape.lineTo(obstacleX + 0.5, obstacleY);
-						triangleShape.lineTo(obstacleX + 1, obstacleY + 1);
-						triangleShape.closePath();
-						Area triangleArea = new Area(triangleShape);
-						triangleArea.intersect(playerArea); // Calculate the intersection between the player and the triangle
-						
-						if (!triangleArea.isEmpty()) {
-							return true; // The player intersects with the triangle's area
-						}
-					// If the obstacle is an left facing triangle, store its area and see if it intersects with the player
-					} else if (level.obstacles[obstacleX][obstacleY] == Obstacle.TRIANGLE_LEFT) {
-						GeneralPath triangleShape = new GeneralPath();
-						triangleShape.moveTo(obstacleX, obstacleY + 0.5);
-						triangleShape.lineTo(obstacleX + 1, obstacleY);
-						triangleShape.lineTo(obstacleX + 1, obstacleY + 1);
-						triangleShape.closePath();
-						Area triangleArea = new Area(triangleShape);
-						triangleArea.intersect(playerArea); // Calculate the intersection between the player and the triangle
-						
-						if (!triangleArea.isEmpty()) {
-							return true; // The player intersects with the triangle's area
-						}
-					}
-				} catch (ArrayIndexOutOfBoundsException e) {}
-			}
-			
-			if (obstacleX > playerX) { // Check on the right side of the player to see if they are about to run into a square
-				for (int obstacleY = (int)(playerY + playerWidth); obstacleY >= (int) playerY; obstacleY--) {
-					try {
-						if (level.obstacles[obstacleX][obstacleY] != null && level.obstacles[obstacleX][obstacleY].isSolid()) { // If there is a solid obstacle at this location
-							// Calculate the area of the right side of the player
-							Area rightSidePlayerArea = new Area(new Rectangle2D.Double(playerX + playerWidth * 0.8, playerY, playerWidth * 0.2, playerWidth));
-							rightSidePlayerArea.intersect(playerArea);
-							
-							if (rightSidePlayerArea.intersects(new Rectangle2D.Double(obstacleX, obstacleY, 1, 1))) {
-								// The right side of the player intersects with this obstacle
-								return true;
-							}
-						}
-					} catch (ArrayIndexOutOfBoundsException e) {}
-				}
-			}
-		}
-		
-		return false;
+	public void setMaxRenderHeight(int height) {
+		maxRenderHeight = Math.max(0, height);
 	}
 	
-	/** Method Name: isTouchingYellowPad()
-	 * @Author Colin Toft
-	 * @Date January 19th, 2020
+	/** Method Name: setUpscaleInterpolation()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
 	 * @Modified N/A
-	 * @Description Determines if a player is touching a yellow pad
-	 * @Returns True the player is currently touching a yellow pad, otherwise false
-	 * Data Type: Area, int, Ellipse2D, Rectangle2D, Obstacle
+	 * @Description Chooses how the level is smoothed when it is drawn at a lower resolution and stretched over the view
+	 * @Parameters
+	 *      - Object interpolation: one of the RenderingHints.VALUE_INTERPOLATION_ values, or null to use bilinear or nearest neighbour depending on the render quality
+	 * @Returns N/A
+	 * Data Type: Object, RenderingHints
 	 * Dependencies: N/A
 	 * Throws/Exceptions: N/A
 	 */
-	private boolean isTouchingYellowPad() {
-		Area playerArea = new Area(new Ellipse2D.Double(playerX, playerY, playerWidth, playerWidth)); // Calculate the player's area
-				
-		// Loop through all obstacles near the player
-		for (int obstacleX = (int) playerX; obstacleX <= (int) playerX + 1; obstacleX++) {
-			for (int obstacleY = (int)(playerY + playerWidth); obstacleY >= 0; obstacleY--) {
-				try {
-					if (level.obstacles[obstacleX][obstacleY] == Obstacle.YELLOW_PAD) {
-						Area padArea = new Area(new Rectangle2D.Double(obstacleX, obstacleY, 1, 0.25)); // If the obstacle is a yellow pad, calculate its area
-						padArea.intersect(playerArea); // Determine if the pad and player intersect
-						
-						if (!padArea.isEmpty()) {
-							return true; // If there is an intersection, the player is touching the yellow pad
-						}
-					}
-					
-					if (level.obstacles[obstacleX][obstacleY] == Obstacle.YELLOW_PAD_UPSIDE_DOWN) {
-						Area padArea = new Area(new Rectangle2D.Double(obstacleX, obstacleY + 0.75, 1, 0.25)); // If the obstacle is a yellow pad, calculate its area
-						padArea.intersect(playerArea); // Determine if the pad and player intersect
-						
-						if (!padArea.isEmpty()) {
-							return true; // If there is an intersection, the player is touching the yellow pad
-						}
-					}
-				} catch (ArrayIndexOutOfBoundsException e) {}
-			}
-		}
-		
-		return false;
+	public void setUpscaleInterpolation(Object interpolation) {
+		upscaleInterpolation = interpolation;
 	}
 	
-	/** Method Name: isTouchingYellowRing()
-	 * @Author Colin Toft
-	 * @Date January 19th, 2020
+	/** Method Name: targetRenderScale()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
 	 * @Modified N/A
-	 * @Description Determines if a player is touching a yellow ring
-	 * @Returns True the player is currently touching a yellow ring, otherwise false
-	 * Data Type: Area, int, Ellipse2D, Rectangle2D, Obstacle
+	 * @Description Calculates the fraction of the view's size that the level should be drawn at, combining the render quality and the user's render scale (before the maximum render height is applied)
+	 * @Parameters
+	 *      - RenderQuality quality: the quality the game is currently drawing at
+	 * @Returns The fraction of the view's size in pixels to draw the level at
+	 * Data Type: double, RenderQuality
 	 * Dependencies: N/A
 	 * Throws/Exceptions: N/A
 	 */
-	private boolean isTouchingYellowRing() {
-		Area playerArea = new Area(new Ellipse2D.Double(playerX, playerY, playerWidth, playerWidth)); // Calculate the player's area
-				
-		// Loop through all obstacles near the player
-		for (int obstacleX = (int) playerX; obstacleX <= (int) playerX + 1; obstacleX++) {
-			for (int obstacleY = (int)(playerY + playerWidth); obstacleY >= 0; obstacleY--) {
-				try {
-					if (level.obstacles[obstacleX][obstacleY] == Obstacle.YELLOW_RING) {
-						Area ringArea = new Area(new Ellipse2D.Double(obstacleX - 0.25, obstacleY - 0.25, 1.5, 1.5)); // If the obstacle is a yellow pad, calculate its area
-						ringArea.intersect(playerArea); // Determine if the pad and player intersect
-						
-						if (!ringArea.isEmpty()) {
-							return true; // If there is an intersection, the player is touching the yellow pad
-						}
-					}
-				} catch (ArrayIndexOutOfBoundsException e) {}
-			}
-		}
-		
-		return false;
+	private double targetRenderScale(RenderQuality quality) {
+		return quality.renderScale * renderScaleSetting;
 	}
 	
-	/** Method Name: updateMode()
-	 * @Author Colin Toft
-	 * @Date January 15th, 2020
-	 * @Modified January 16th, 2020
-	 * @Description Determines if a player is travelling through a portal and changes their mode appropriately
+	/** Method Name: playReplay()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Plays a replay instead of taking the player's input. Must be called before the level view is first updated, since replays start from the beginning of the level
+	 * @Parameters
+	 *      - Replay replay: the replay to play
+	 *      - double speed: how many times faster than real time to play the replay
 	 * @Returns N/A
-	 * Data Type: int, Obstacle, boolean
+	 * Data Type: Replay, ReplayPlayer, double
 	 * Dependencies: N/A
 	 * Throws/Exceptions: N/A
 	 */
-	private void updateMode() {
-		int xCoord = (int) playerX; // The x coordinate to check
-		int bottomY = (int) playerY; // The bottom y coordinate to check (the bottom of the player)
-		int topY = bottomY + 1; // The top y coordinate to check (the top of the player)
-		
-		Obstacle bottomObstacle, topObstacle; // The obstacles at the top and bottom y coordinates, respectively
-		try {
-			// Find the obstacles at the top and bottom coordinate
-			bottomObstacle = level.obstacles[xCoord][bottomY];
-			topObstacle = level.obstacles[xCoord][topY];
-		} catch (ArrayIndexOutOfBoundsException e) {
+	public void playReplay(Replay replay, double speed) {
+		replayPlayer = new ReplayPlayer(replay, simulation);
+		playbackSpeed = speed;
+		deterministic = true;
+		recording = null;
+	}
+	
+	/** Method Name: saveRecording()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Saves the recording of this session to assets/replays, named after the level (replacing the previous recording of the level)
+	 * @Parameters N/A
+	 * @Returns N/A
+	 * Data Type: Replay, File, String
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	private void saveRecording() {
+		if (recording == null) {
 			return;
 		}
-		
-		if (triangleMode) { // The player is in triangle mode, so look for a circle portal
-			if (bottomObstacle != null && bottomObstacle.isCirclePortal() || topObstacle != null && topObstacle.isCirclePortal()) {
-				triangleMode = false; // The player is touching a circle portal, so begin circle mode
-			}
-		} else { // The player is in circle mode, so look for a triangle portal
-			if (bottomObstacle != null && bottomObstacle.isTrianglePortal() || topObstacle != null && topObstacle.isTrianglePortal()) {
-				triangleMode = true; // The player is touching a triangle portal, so begin triangle mode
-				playerRotation = 0;
-			}
-		}
-		
-		if (upsideDownMode) { // The player is in upside down mode, so look for a right side up portal
-			if (bottomObstacle != null && bottomObstacle.isRightSideUpPortal() || topObstacle != null && topObstacle.isRightSideUpPortal()) {
-				upsideDownMode = false; // The player is touching a right side up portal, so turn off upside down mode
-			}
-		} else { // The player is in circle mode, so look for a triangle portal
-			if (bottomObstacle != null && bottomObstacle.isUpsideDownPortal() || topObstacle != null && topObstacle.isUpsideDownPortal()) {
-				upsideDownMode = true; // The player is touching an upside down portal, so begin upside down mode
-			}
+		recording.setLength(simulation.getTick());
+		String name = level.filename.contains(".") ? level.filename.substring(0, level.filename.lastIndexOf('.')) : level.filename;
+		try {
+			recording.save(new File("assets/replays/" + name + ".replay"));
+		} catch (IOException e) {
+			System.out.println("Unable to save replay to file: ");
+			e.printStackTrace();
 		}
 	}
 	
+	/** Method Name: publishRenderState()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Copies everything draw() needs into a snapshot and hands it to the drawing thread
+	 * @Parameters
+	 *      - double dt: the real time between the previous state and this one, in seconds
+	 *      - long time: the System.nanoTime() that this state represents
+	 * @Returns N/A
+	 * Data Type: LevelRenderState, TripleBuffer, LevelSimulation
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	private void publishRenderState(double dt, long time) {
+		LevelRenderState state = renderStates.getWriteBuffer();
+		state.time = time;
+		state.dt = dt;
+		state.prevPlayerX = prevPlayerX;
+		state.prevPlayerY = prevPlayerY;
+		state.playerX = simulation.getPlayerX();
+		state.playerY = simulation.getPlayerY();
+		state.playerRotation = simulation.getPlayerRotation();
+		state.groundHeight = simulation.getGroundHeight();
+		state.triangleMode = simulation.isTriangleMode();
+		state.upsideDownMode = simulation.isUpsideDownMode();
+		state.hasDied = simulation.hasDied();
+		state.hasBeatLevel = simulation.hasBeatLevel();
+		state.winTimer = simulation.getWinTimer();
+		state.practiceMode = simulation.isPracticeMode();
+		state.checkpointX = simulation.getCheckpointX();
+		state.checkpointY = simulation.getCheckpointY();
+		state.prevCheckpointX = simulation.getPrevCheckpointX();
+		state.prevCheckpointY = simulation.getPrevCheckpointY();
+		state.progress = simulation.getPlayerProgress();
+		renderStates.publish();
+	}
+	
 	/** Method Name: getBlockSize()
 	 * @Author Colin Toft
 	 * @Date December 30th, 2019
-	 * @Modified January 14th & 15th, 2020
-	 * @Description Calculates the width of one block/obstacle in pixels
+	 * @Modified January 14th & 15th, 2020, October 17th, 2026
+	 * @Description Calculates the width of one block/obstacle in pixels, at the resolution the level is drawn at
 	 * @Returns The size of one block in pixels
 	 * Data Type: int, double
 	 * Dependencies: CGraphics library (by Colin)
 	 * Throws/Exceptions: N/A
 	 */
 	public double getBlockSize() {
-		return pixelHeight() / levelHeight;
+		return renderHeight() / levelHeight;
+	}
+	
+	/** Method Name: renderWidth()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified October 17th, 2026
+	 * @Description Returns the width in pixels that the level is drawn at, which is the width of the images being drawn. It is smaller than the view when the render scale is below 1,
+	 * and can differ from the view for a few frames after a resize, until the images for the new size are ready
+	 * @Parameters N/A
+	 * @Returns The width of the drawn level in pixels
+	 * Data Type: int, LevelImages
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	private int renderWidth() {
+		LevelImages current = images;
+		return current != null ? current.width : targetWidth();
+	}
+	
+	/** Method Name: renderHeight()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified October 17th, 2026
+	 * @Description Returns the height in pixels that the level is drawn at, which is the height of the images being drawn. It is smaller than the view when the render scale is below 1,
+	 * and can differ from the view for a few frames after a resize, until the images for the new size are ready
+	 * @Parameters N/A
+	 * @Returns The height of the drawn level in pixels
+	 * Data Type: int, LevelImages
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	private int renderHeight() {
+		LevelImages current = images;
+		return current != null ? current.height : targetHeight();
+	}
+	
+	/** Method Name: targetWidth()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Calculates the width in pixels that new images should be made at, from the view's size, the render scale and the maximum render height
+	 * @Parameters N/A
+	 * @Returns The width to make the images at in pixels
+	 * Data Type: int, double
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	private int targetWidth() {
+		return Math.max(1, (int) Math.round(pixelWidth() * targetScale()));
+	}
+	
+	/** Method Name: targetHeight()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Calculates the height in pixels that new images should be made at, from the view's size, the render scale and the maximum render height
+	 * @Parameters N/A
+	 * @Returns The height to make the images at in pixels
+	 * Data Type: int, double
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	private int targetHeight() {
+		return Math.max(1, (int) Math.round(pixelHeight() * targetScale()));
+	}
+	
+	/** Method Name: targetScale()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Calculates the fraction of the view's size that new images should be made at: the render scale, lowered further if the view is taller than the maximum render height
+	 * @Parameters N/A
+	 * @Returns The fraction of the view's size in pixels
+	 * Data Type: double, int
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	private double targetScale() {
+		double scale = renderScale;
+		if (maxRenderHeight > 0 && pixelHeight() > maxRenderHeight) {
+			scale = Math.min(scale, (double) maxRenderHeight / pixelHeight());
+		}
+		return scale;
 	}
 	
 	/** Method Name: blockXToPixelX()
 	 * @Author Colin Toft
 	 * @Date December 31st, 2019
-	 * @Modified N/A
+	 * @Modified October 17th, 2026
 	 * @Description Takes an x value in blocks and converts it to an x value in pixels
 	 * @Returns The x value in pixels of the original x coordinate
 	 * Data Type: int, double
@@ -926,13 +914,13 @@ public class LevelView extends Drawable {
 	 * Throws/Exceptions: N/A
 	 */
 	public int blockXToPixelX(double blockX) {
-		return (int) Math.round((blockX - playerX) * getBlockSize() + (playerScreenX * pixelWidth()));
+		return (int) Math.round((blockX - renderPlayerX) * getBlockSize() + (playerScreenX * renderWidth()));
 	}
 	
 	/** Method Name: blockYToPixelY()
 	 * @Author Colin Toft
 	 * @Date December 31st, 2019
-	 * @Modified N/A
+	 * @Modified October 17th, 2026
 	 * @Description Takes an y value in blocks and converts it to a y value in pixels
 	 * @Returns The y value in pixels of the original y coordinate
 	 * Data Type: int, double
@@ -940,13 +928,13 @@ public class LevelView extends Drawable {
 	 * Throws/Exceptions: N/A
 	 */
 	public int blockYToPixelY(double blockY) {
-		return (int) Math.round((1 - groundHeight) * pixelHeight() - blockY * getBlockSize());
+		return (int) Math.round((1 - renderGroundHeight) * renderHeight() - blockY * getBlockSize());
 	}
 	
 	/** Method Name: pixelXToBlockX()
 	 * @Author Colin Toft
 	 * @Date December 31st, 2019
-	 * @Modified N/A
+	 * @Modified October 17th, 2026
 	 * @Description Takes an x value in pixels and converts it to an x value in blocks
 	 * @Returns The x value in blocks of the original x coordinate
 	 * Data Type: int, double
@@ -954,13 +942,13 @@ public class LevelView extends Drawable {
 	 * Throws/Exceptions: N/A
 	 */
 	public double pixelXToBlockX(int pixelX) {
-		return (pixelX - (playerScreenX * pixelWidth())) / getBlockSize() + playerX;
+		return (pixelX - (playerScreenX * renderWidth())) / getBlockSize() + renderPlayerX;
 	}
 	
 	/** Method Name: pixelYToBlockY()
 	 * @Author Colin Toft
 	 * @Date December 31st, 2019
-	 * @Modified N/A
+	 * @Modified October 17th, 2026
 	 * @Description Takes a y value in pixels and converts it to a y value in blocks
 	 * @Returns The y value in blocks of the original y coordinate
 	 * Data Type: int, double
@@ -968,13 +956,13 @@ public class LevelView extends Drawable {
 	 * Throws/Exceptions: N/A
 	 */
 	public double pixelYToBlockY(int pixelY) {
-		return (pixelY - (1 - groundHeight) * pixelHeight()) / -getBlockSize();
+		return (pixelY - (1 - renderGroundHeight) * renderHeight()) / -getBlockSize();
 	}
 	
 	/** Method Name: screenXToBlockX()
 	 * @Author Colin Toft
 	 * @Date January 7th, 2019
-	 * @Modified N/A
+	 * @Modified October 17th, 2026
 	 * @Description Takes an x value in screen coordinates (fraction of the screen width) and converts it to an x value in blocks
 	 * @Returns The x value in blocks of the original x coordinate
 	 * Data Type: int, double
@@ -982,13 +970,13 @@ public class LevelView extends Drawable {
 	 * Throws/Exceptions: N/A
 	 */
 	public double screenXToBlockX(double screenX) {
-		return pixelXToBlockX((int) Math.round(screenX * pixelWidth()));
+		return pixelXToBlockX((int) Math.round(screenX * renderWidth()));
 	}
 	
 	/** Method Name: screenYToBlockY()
 	 * @Author Colin Toft
 	 * @Date January 7th, 2019
-	 * @Modified N/A
+	 * @Modified October 17th, 2026
 	 * @Description Takes a y value in screen coordinates (fraction of the screen height) and converts it to a y value in blocks
 	 * @Returns The y value in blocks of the original y coordinate
 	 * Data Type: int, double
@@ -996,13 +984,13 @@ public class LevelView extends Drawable {
 	 * Throws/Exceptions: N/A
 	 */
 	public double screenYToBlockY(double screenY) {
-		return pixelYToBlockY((int) Math.round(screenY * pixelHeight()));
+		return pixelYToBlockY((int) Math.round(screenY * renderHeight()));
 	}
 	
 	/** Method Name: keyPressed()
 	 * @Author Colin Toft
 	 * @Date December 30th, 2019
-	 * @Modified December 31st, 2019, January 19th, 2020
+	 * @Modified December 31st, 2019, January 19th, 2020, October 17th, 2026
 	 * @Description Overrides Scene.keyPressed() and handles key presses while playing a level (pressing space to jump)
 	 * @Parameters
 	 *      - KeyEvent e: the event containing data about the key press event
@@ -1013,15 +1001,15 @@ public class LevelView extends Drawable {
 	 */
 	@Override
 	public void keyPressed(KeyEvent e) {
-		if (e.getKeyCode() == KeyEvent.VK_SPACE && !hasBeatLevel && !hasDied) {
-			jumping = true; // When the space key is pressed, start jumping
+		if (e.getKeyCode() == KeyEvent.VK_SPACE) {
+			addInput(Replay.JUMP_PRESS, Util.toNanoTime(e.getWhen())); // When the space key is pressed, start jumping
 		}
 	}
 	
 	/** Method Name: keyReleased()
 	 * @Author Colin Toft
 	 * @Date December 31st, 2019
-	 * @Modified N/A
+	 * @Modified October 17th, 2026
 	 * @Description Overrides Scene.keyReleased() and handles key releases while playing a level (releasing space to stop jumping)
 	 * @Parameters
 	 *      - KeyEvent e: the event containing data about the key press event
@@ -1033,15 +1021,14 @@ public class LevelView extends Drawable {
 	@Override
 	public void keyReleased(KeyEvent e) {
 		if (e.getKeyCode() == KeyEvent.VK_SPACE) {
-			jumping = false; // When the space key is released, stop jumping
-			holding = false;
+			addInput(Replay.JUMP_RELEASE, Util.toNanoTime(e.getWhen())); // When the space key is released, stop jumping
 		}
 	}
 	
 	/** Method Name: onMousePressed()
 	 * @Author Colin Toft
 	 * @Date December 30th, 2019
-	 * @Modified January 19th, 2020
+	 * @Modified January 19th, 2020, October 17th, 2026
 	 * @Description Overrides Scene.onMousePressed() and handles mouse presses while playing a level (clicking to jump)
 	 * @Parameters
 	 *      - double x: the x coordinate of the mouse (as a fraction of the parent panel's width)
@@ -1054,15 +1041,13 @@ public class LevelView extends Drawable {
 	 */
 	@Override
 	public void onMousePressed(double x, double y, int button) {
-		if (!hasBeatLevel && !hasDied) {
-			jumping = true; // When the mouse is clicked, start jumping
-		}
+		addInput(Replay.JUMP_PRESS, getEventTime()); // When the mouse is clicked, start jumping
 	}
 	
 	/** Method Name: onMouseReleased()
 	 * @Author Colin Toft
 	 * @Date December 30th, 2019
-	 * @Modified N/A
+	 * @Modified October 17th, 2026
 	 * @Description Overrides Scene.onMouseReleased() and handles mouse releases while playing a level (releasing the mouse to stop jumping)
 	 * @Parameters
 	 *      - double x: the x coordinate of the mouse (as a fraction of the parent panel's width)
@@ -1075,120 +1060,99 @@ public class LevelView extends Drawable {
 	 */
 	@Override
 	public void onMouseReleased(double x, double y, int button) {
-		jumping = false; // When the mouse is released, stop jumping
-		holding = false;
+		addInput(Replay.JUMP_RELEASE, getEventTime()); // When the mouse is released, stop jumping
 	}
 	
-	/** Method Name: jump()
+	/** Method Name: startNextAttempt()
 	 * @Author Colin Toft
-	 * @Date December 30th, 2019
-	 * @Modified January 10th, 13th & 22nd, 2020
-	 * @Description Makes the player jump upwards
+	 * @Date January 7th, 2020
+	 * @Modified January 9th, 13th, 14th, 15th, 18th & 22nd, October 17th, 2026
+	 * @Description Restarts the player from the beginning of the level (or their checkpoint in practice mode)
 	 * @Parameters N/A
 	 * @Returns N/A
-	 * Data Type: double, boolean
+	 * Data Type: LevelSimulation
 	 * Dependencies: CGraphics library (by Colin)
 	 * Throws/Exceptions: N/A
 	 */
-	private void jump() {
-		ySpeed = upsideDownMode ? -jumpYSpeed : jumpYSpeed; // Set the y speed to the jump y speed value to cause the player to move upwards
-		jumpCount++; // Setting this to true will remove the jumping tutorial message
+	public void startNextAttempt() {
+		simulation.startNextAttempt();
 	}
 	
-	/** Method Name: startNextAttempt()
+	/** Method Name: restartLevel()
 	 * @Author Colin Toft
-	 * @Date January 7th, 2020
-	 * @Modified January 9th, 13th, 14th, 15th, 18th & 22nd
-	 * @Description Restarts the player from the beginning of the level
+	 * @Date January 14th, 2020
+	 * @Modified October 17th, 2026
+	 * @Description Restarts the player from the beginning of the level and from their first attempt
 	 * @Parameters N/A
 	 * @Returns N/A
-	 * Data Type: PlayLevel, double, boolean, int, Clip
+	 * Data Type: Replay
 	 * Dependencies: CGraphics library (by Colin)
 	 * Throws/Exceptions: N/A
 	 */
-	public void startNextAttempt() {
-		((PlayLevel) parentPanel).restartLevel();
-		
-		playerRotation = 0;
-		
-		if (practiceMode) {
-			// If the player just after a checkpoint, increase the checkpoint death count
-			if (playerX - checkpointX < 7) {
-				checkpointDeathCount++;
-			}
-			
-			// If the player keeps dying after the checkpoint, delete it
-			if (checkpointDeathCount >= 3 && prevCheckpointX != checkpointX) {
-				deleteCheckpoint();
-			}
-			
-			// Respawn from the previous checkpoint
-			playerX = checkpointX;
-			playerY = checkpointY;
-			ySpeed = checkpointYSpeed;
-			triangleMode = checkpointTriangleMode;
-			upsideDownMode = checkpointUpsideDownMode;
-			
-			// Set the starting ground height
-			if (triangleMode || upsideDownMode) {
-				groundHeight = 0.5 / levelHeight;
-			} else {
-				groundHeight = Math.min(baseGroundHeight, groundHeightThreshold - (playerY * getBlockSize() / pixelHeight()));
-			}
-			
-		} else {
-			stopMusic();
-
-			// Begin with the player just to the left of the level
-			playerX = -10;
-			playerY = 0;
-			ySpeed = 0;
-			
-			// Delete any checkpoints
-			checkpointX = playerX;
-			checkpointY = playerY;
-			checkpointYSpeed = ySpeed;
-			prevCheckpointX = checkpointX;
-			prevCheckpointY = checkpointY;
-			prevCheckpointYSpeed = checkpointYSpeed;
-			
-			groundHeight = baseGroundHeight; // Set the starting ground height
-			triangleMode = false; // The level always starts in circle mode, not triangle mode
-			upsideDownMode = false;
+	public void restartLevel() {
+		addInput(Replay.RESTART, System.nanoTime()); // Restart on the update thread before the next tick, so the restart can be recorded
+	}
+	
+	/** Method Name: addInput()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified October 17th, 2026
+	 * @Description Queues an input event to be applied by the update thread at the point of the simulation where it happened. Input is ignored while a replay is playing.
+	 * Must only be called from the AWT event dispatch thread, which is the only thread that adds to the input queue
+	 * @Parameters
+	 *      - int event: the type of event (one of the Replay event types)
+	 *      - long time: the System.nanoTime() that the event happened at
+	 * @Returns N/A
+	 * Data Type: int, long, InputQueue
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	private void addInput(int event, long time) {
+		if (replayPlayer == null) {
+			inputs.offer(event, time); // The queue only fills up if the game stops updating for a long time, in which case the newest events are dropped
 		}
-		
-		lastGroundY = playerY; // Reset the lastGroundY
-
-		// Reset other variables
-		jumping = false;
-		holding = false;
-		hasDied = false;
-		hasBeatLevel = false;
-		
 	}
 	
-	/** Method Name: restartLevel()
-	 * @Author Colin Toft
-	 * @Date January 14th, 2020
+	/** Method Name: getEventTime()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
 	 * @Modified N/A
-	 * @Description Restarts the player from the beginning of the level and from their first attempt
+	 * @Description Finds when the mouse event currently being handled happened, from the scene that passed it on
+	 * @Parameters N/A
+	 * @Returns The System.nanoTime() that the event happened at, or the current time if the level view is not in a scene
+	 * Data Type: long, Scene
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	private long getEventTime() {
+		if (parentPanel instanceof Scene) {
+			return ((Scene) parentPanel).getEventTime();
+		}
+		return System.nanoTime();
+	}
+	
+	/** Method Name: snapInterpolation()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Makes the previous player position equal to the current one so the next frames are not interpolated from where the player was before a teleport
 	 * @Parameters N/A
 	 * @Returns N/A
-	 * Data Type: boolean, int
-	 * Dependencies: CGraphics library (by Colin)
+	 * Data Type: double
+	 * Dependencies: N/A
 	 * Throws/Exceptions: N/A
 	 */
-	public void restartLevel() {
-		practiceMode = false; // Begin the level in normal mode for the 1st attempt
-		winTimer = 0;
-		startNextAttempt(); // Call the normal procedure to start an attempt
-		playerX = -15; // Player starts a little further to the left than normal on the 1st attempt
+	private void snapInterpolation() {
+		prevPlayerX = simulation.getPlayerX();
+		prevPlayerY = simulation.getPlayerY();
+		renderPlayerX = prevPlayerX;
+		renderPlayerY = prevPlayerY;
 	}
 
 	/** Method Name: getScrollSpeed()
 	 * @Author Colin Toft
 	 * @Date January 7th, 2020
-	 * @Modified January 14th
+	 * @Modified January 14th, October 17th, 2026
 	 * @Description Calculates the level scrolling speed
 	 * @Parameters N/A
 	 * @Returns Scroll speed in screen widths per second
@@ -1197,8 +1161,8 @@ public class LevelView extends Drawable {
 	 * Throws/Exceptions: N/A
 	 */
 	public double getScrollSpeed() {
-		if (!hasDied) {
-			return xSpeed / (pixelWidth() / getBlockSize());
+		if (!simulation.hasDied()) {
+			return LevelSimulation.xSpeed / (renderWidth() / getBlockSize());
 		} else {
 			return 0; // The level does not scroll after the player dies
 		}
@@ -1207,7 +1171,7 @@ public class LevelView extends Drawable {
 	/** Method Name: getPlayerProgress()
 	 * @Author Colin Toft
 	 * @Date January 8th, 2020
-	 * @Modified N/A
+	 * @Modified October 17th, 2026
 	 * @Description Calculates the player's current progress in the level
 	 * @Parameters N/A
 	 * @Returns The players progress in the level on a scale from 0 to 1
@@ -1216,65 +1180,95 @@ public class LevelView extends Drawable {
 	 * Throws/Exceptions: N/A
 	 */
 	public double getPlayerProgress() {
-		return Util.constrain(playerX / level.width, 0, 1);
+		return simulation.getPlayerProgress();
 	}
 
 	/** Method Name: exitingToMenu()
 	 * @Author Colin Toft
 	 * @Date January 8th, 2020
-	 * @Modified January 17th, 2020
-	 * @Description Called when the scene is about to exit back to the main menu, stops the currently playing music
+	 * @Modified January 17th, 2020, October 17th, 2026
+	 * @Description Called when the scene is about to exit back to the main menu, stops the currently playing music and has the recording of the session saved when the scene is closed.
+	 * Runs on the AWT event dispatch thread, so it only stops the sounds and leaves the simulation and the recording (which the update thread may still be adding to) alone
 	 * @Parameters N/A
 	 * @Returns N/A
-	 * Data Type: N/A
+	 * Data Type: boolean
 	 * Dependencies: N/A
 	 * Throws/Exceptions: N/A
 	 */
 	public void exitingToMenu() {
-		stopMusic();
+		stopSounds();
+		savingRecording = true;
 	}
 	
 	/** Method Name: onPause()
 	 * @Author Colin Toft
 	 * @Date January 8th, 2020
-	 * @Modified N/A
-	 * @Description Overrides Scene.onPause(): stops the music when the level is paused
+	 * @Modified October 17th, 2026
+	 * @Description Overrides Scene.onPause(): stops the music when the level is paused, remembering which music was playing.
+	 * Runs on the AWT event dispatch thread, so only the sounds are stopped: the simulation still considers the music to be playing, and is not stepped while the game is paused
 	 * @Parameters N/A
 	 * @Returns N/A
-	 * Data Type: N/A
+	 * Data Type: Clip
 	 * Dependencies: CGraphics library (by Colin)
 	 * Throws/Exceptions: N/A
 	 */
 	@Override
 	public void onPause() {
 		super.onPause();
-		stopMusic();
+		if (music.isRunning()) {
+			pausedMusic = music;
+		} else if (practiceMusic.isRunning()) {
+			pausedMusic = practiceMusic;
+		} else {
+			pausedMusic = null;
+		}
+		stopSounds();
 	}
 	
 	/** Method Name: onResume()
 	 * @Author Colin Toft
 	 * @Date January 8th, 2020
-	 * @Modified January 19th, 2020
-	 * @Description Overrides Scene.onResume(): resumes the music when the level is unpaused
+	 * @Modified January 19th, 2020, October 17th, 2026
+	 * @Description Overrides Scene.onResume(): resumes the music that was playing when the level was paused
 	 * @Parameters N/A
 	 * @Returns N/A
-	 * Data Type: N/A
+	 * Data Type: Clip
 	 * Dependencies: CGraphics library (by Colin)
 	 * Throws/Exceptions: N/A
 	 */
 	@Override
 	public void onResume() {
 		super.onResume();
-		// Resume the music if necessary
-		if (playerX >= 0 && !playingMusic && (!hasDied || practiceMode)) {
-			resumeMusic();
+		if (pausedMusic == practiceMusic) {
+			practiceMusic.loop(Clip.LOOP_CONTINUOUSLY);
+		} else if (pausedMusic == music) {
+			music.start();
 		}
+		pausedMusic = null;
+	}
+	
+	/** Method Name: stopSounds()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Stops all currently playing music and sounds, without changing the simulation
+	 * @Parameters N/A
+	 * @Returns N/A
+	 * Data Type: Clip
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	private void stopSounds() {
+		music.stop();
+		practiceMusic.stop();
+		winSound.stop();
+		deathSound.stop();
 	}
 
 	/** Method Name: changeMode()
 	 * @Author Colin Toft
 	 * @Date January 9th, 2020
-	 * @Modified N/A
+	 * @Modified October 17th, 2026
 	 * @Description Toggles the mode between practice mode and normal mode
 	 * @Parameters N/A
 	 * @Returns N/A
@@ -1283,20 +1277,13 @@ public class LevelView extends Drawable {
 	 * Throws/Exceptions: N/A
 	 */
 	public void changeMode() {
-		practiceMode = !practiceMode; // Toggle between practice mode and normal mode
-		stopMusic();
-		if (!practiceMode) {
-			// If the player is switching into normal mode, they need to start the level from the beginning
-			startNextAttempt();
-		} else if (playerX >= 0) {
-			startMusic(); // If the player is switching into practice mode, start the practice mode music
-		}
+		addInput(Replay.CHANGE_MODE, System.nanoTime()); // Change modes on the update thread before the next tick, so the change can be recorded
 	}
 	
 	/** Method Name: isPracticeMode()
 	 * @Author Colin Toft
 	 * @Date January 9th, 2020
-	 * @Modified N/A
+	 * @Modified October 17th, 2026
 	 * @Description Returns if the level is currently being played in practice mode
 	 * @Parameters N/A
 	 * @Returns True if practice mode is enabled, otherwise false
@@ -1305,13 +1292,13 @@ public class LevelView extends Drawable {
 	 * Throws/Exceptions: N/A
 	 */
 	public boolean isPracticeMode() {
-		return practiceMode;
+		return simulation.isPracticeMode();
 	}
 	
 	/** Method Name: isTriangleMode()
 	 * @Author Colin Toft
 	 * @Date January 17th, 2020
-	 * @Modified N/A
+	 * @Modified October 17th, 2026
 	 * @Description Returns if the player is currently in triangle mode
 	 * @Parameters N/A
 	 * @Returns True if triangle mode is enabled, otherwise false
@@ -1320,70 +1307,51 @@ public class LevelView extends Drawable {
 	 * Throws/Exceptions: N/A
 	 */
 	public boolean isTriangleMode() {
-		return triangleMode;
+		return simulation.isTriangleMode();
 	}
 	
-	/** Method Name: startMusic()
-	 * @Author Colin Toft
-	 * @Date January 9th, 2020
+	/** Method Name: hasBeatLevel()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
 	 * @Modified N/A
-	 * @Description Starts the music from the beginning (level music if playing in normal mode, otherwise practice music)
+	 * @Description Returns if the player has reached the end of the level in the current attempt
 	 * @Parameters N/A
-	 * @Returns N/A
-	 * Data Type: boolean, Clip
+	 * @Returns True if the player has beat the level, otherwise false
+	 * Data Type: boolean
 	 * Dependencies: N/A
 	 * Throws/Exceptions: N/A
 	 */
-	public void startMusic() {
-		playingMusic = true;
-		// Choose the appropriate music depending on the mode and start playing it from the beginning
-		if (practiceMode) {
-			practiceMusic.setFramePosition(0);
-			practiceMusic.loop(Clip.LOOP_CONTINUOUSLY);
-		} else {
-			music.setFramePosition(0);
-			music.start();
-		}
+	public boolean hasBeatLevel() {
+		return simulation.hasBeatLevel();
 	}
 	
-	/** Method Name: resumeMusic()
-	 * @Author Colin Toft
-	 * @Date January 9th, 2020
+	/** Method Name: getJumpCount()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
 	 * @Modified N/A
-	 * @Description Resumes the music (level music if playing in normal mode, otherwise practice music)
+	 * @Description Returns how many times the player has jumped while playing this level
 	 * @Parameters N/A
-	 * @Returns N/A
-	 * Data Type: boolean, Clip
+	 * @Returns The number of jumps
+	 * Data Type: int
 	 * Dependencies: N/A
 	 * Throws/Exceptions: N/A
 	 */
-	public void resumeMusic() {
-		playingMusic = true;
-		// Choose the appropriate music depending on the mode and start playing it
-		if (practiceMode) {
-			practiceMusic.loop(Clip.LOOP_CONTINUOUSLY);
-		} else {
-			music.start();
-		}
+	public int getJumpCount() {
+		return simulation.getJumpCount();
 	}
 	
-	/** Method Name: stopMusic()
-	 * @Author Colin Toft
-	 * @Date January 9th, 2020
+	/** Method Name: getSimulation()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
 	 * @Modified N/A
-	 * @Description Stops all currently playing music and sounds
+	 * @Description Returns the simulation that runs the physics of the level being drawn
 	 * @Parameters N/A
-	 * @Returns N/A
-	 * Data Type: boolean, Clip
+	 * @Returns The LevelSimulation object
+	 * Data Type: LevelSimulation
 	 * Dependencies: N/A
 	 * Throws/Exceptions: N/A
 	 */
-	public void stopMusic() {
-		// Stop all music and sounds
-		music.stop();
-		practiceMusic.stop();
-		winSound.stop();
-		deathSound.stop();
-		playingMusic = false;
+	public LevelSimulation getSimulation() {
+		return simulation;
 	}
 }
@@ -96,8 +96,8 @@ public class MainMenu extends Scene {
 	/** Method Name: init()
 	 * @Author Colin Toft
 	 * @Date December 21st, 2019
-	 * @Modified December 22nd, 24th, 26th & 27th, 2019, January 18th, 2020
-	 * @Description Overrides the Scene.init() method, loads the text, music, progress bars and panels in the scene
+	 * @Modified December 22nd, 24th, 26th & 27th, 2019, January 18th, 2020, October 17th, 2026
+	 * @Description Overrides the Scene.init() method, loads the text, music, progress bars and panels in the scene, reporting its progress as it goes
 	 * @Parameters N/A
 	 * @Returns N/A
 	 * Data Type: ShapeSprint, Font, Color, Panel, DrawableRoundedRectangle, DrawableOutlinedText, DrawableProgressBar, DrawableShape, Clip
@@ -151,6 +151,7 @@ public class MainMenu extends Scene {
 		panel1.add(practicePercentageText1);
 		
 		add(panel1);
+		setLoadingProgress(0.3);
 		
 		// Create the second level panel (the same as the first panel)
 		panel2 = new Panel(panelStartX + 1, 0.15, panelWidth, 0.7);
@@ -182,6 +183,7 @@ public class MainMenu extends Scene {
 		panel2.add(practicePercentageText2);
 		
 		add(panel2);
+		setLoadingProgress(0.6);
 		
 				
 		// Load the triangles
@@ -230,6 +232,8 @@ public class MainMenu extends Scene {
 		};
 		add(creditsButton);
 		
+		setLoadingProgress(0.7);
+		
 		// Add the help screen: text on top of a black rectangle with an x button to close the screen
 		helpScreen = new Panel(0.03, 0.03, 0.94, 0.94);
 		DrawableRoundedRectangle helpRect = new DrawableRoundedRectangle(0, 0, 1, 1, 0.07, 0.125, Color.BLACK); // The background rectangle
@@ -289,9 +293,26 @@ public class MainMenu extends Scene {
 		add(creditsScreen);
 		creditsScreen.hide();
 
-		// Start playing the menu music
+		// Load the menu music (it starts playing once the menu is shown)
 		menuMusic = Util.getAudioClip(getClass(), "menuLoop.wav");
-		menuMusic.loop(Clip.LOOP_CONTINUOUSLY);
+	}
+	
+	/** Method Name: start()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Overrides Scene.start(): starts playing the menu music once the menu is shown, since init() runs while the previous scene is still on screen
+	 * @Parameters N/A
+	 * @Returns N/A
+	 * Data Type: Clip
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	@Override
+	public void start() {
+		if (menuMusic != null) {
+			menuMusic.loop(Clip.LOOP_CONTINUOUSLY);
+		}
 	}
 	
 	/** Method Name: dispose()
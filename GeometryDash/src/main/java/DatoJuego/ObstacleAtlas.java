@@ -0,0 +1,119 @@
+package DatoJuego;
+
+import java.awt.Graphics;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.concurrent.ForkJoinTask;
+
+
+
+/**
+***********************************************
+@Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+@Date October 17th, 2026
+@Modified N/A
+@Description The images of every Obstacle, scaled to one block size and packed into a single image. Each obstacle's part of the image is found by its ordinal
+in flat arrays, so drawing a tile needs no hash lookup and every tile of a level is copied from the same image, which Java2D can keep in video memory and draw in batches.
+***********************************************
+*/
+public class ObstacleAtlas {
+
+	private static final int spritesPerRow = 8; // The number of obstacle images packed side by side before starting a new row
+	private static final int gap = 1; // Empty pixels left between images, so smoothing at the edge of one image never picks up its neighbour
+
+	private BufferedImage atlas; // The image all the obstacle images are packed into
+	private int[] spriteX, spriteY, spriteWidth, spriteHeight; // The part of the atlas each obstacle's image is in, indexed by Obstacle.ordinal()
+
+	/** Method Name: ObstacleAtlas()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified October 17th, 2026
+	 * @Description Loads the image of every obstacle in parallel, scales it so it is one block wide, and packs them in rows into a single image
+	 * @Parameters
+	 *      - double blockSize: the width of one block in pixels
+	 * @Returns N/A
+	 * Data Type: BufferedImage, Graphics, Obstacle, int, double, ForkJoinTask, ArrayList
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	public ObstacleAtlas(final double blockSize) {
+		Obstacle[] types = Obstacle.values();
+		final BufferedImage[] images = new BufferedImage[types.length];
+		spriteX = new int[types.length];
+		spriteY = new int[types.length];
+		spriteWidth = new int[types.length];
+		spriteHeight = new int[types.length];
+
+		// Load and scale the images at the same time, as one fork-join task each
+		ArrayList<ForkJoinTask<?>> tasks = new ArrayList<ForkJoinTask<?>>();
+		for (final Obstacle type: types) {
+			tasks.add(ForkJoinTask.adapt(new Runnable() {
+				@Override
+				public void run() {
+					BufferedImage image = Util.loadImageFromFile(ObstacleAtlas.class, type.getImageFilename());
+					images[type.ordinal()] = Util.scaleImage(image, (blockSize + 1) / image.getWidth());
+				}
+			}));
+		}
+		ForkJoinTask.invokeAll(tasks);
+
+		// Work out where each image goes: left to right in rows, with each row as tall as its tallest image
+		int x = 0, y = 0, rowHeight = 0, atlasWidth = 0;
+		for (Obstacle type: types) {
+			int i = type.ordinal();
+			if (i > 0 && i % spritesPerRow == 0) {
+				x = 0;
+				y += rowHeight + gap;
+				rowHeight = 0;
+			}
+			spriteX[i] = x;
+			spriteY[i] = y;
+			spriteWidth[i] = images[i].getWidth();
+			spriteHeight[i] = images[i].getHeight();
+			x += spriteWidth[i] + gap;
+			rowHeight = Math.max(rowHeight, spriteHeight[i]);
+			atlasWidth = Math.max(atlasWidth, x);
+		}
+
+		// Copy every image into its place in the atlas
+		atlas = Util.getEmptyImage(atlasWidth, y + rowHeight, false);
+		Graphics g = atlas.createGraphics();
+		for (int i = 0; i < types.length; i++) {
+			g.drawImage(images[i], spriteX[i], spriteY[i], null);
+		}
+		g.dispose();
+	}
+
+	/** Method Name: draw()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Draws an obstacle's image at its original size by copying its part of the atlas
+	 * @Parameters
+	 *      - Graphics g: the graphics object to draw with
+	 *      - Obstacle o: the obstacle to draw
+	 *      - int x: the x coordinate of the left of the image, in pixels
+	 *      - int y: the y coordinate of the top of the image, in pixels
+	 * @Returns N/A
+	 * Data Type: Graphics, Obstacle, int
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	public void draw(Graphics g, Obstacle o, int x, int y) {
+		int i = o.ordinal();
+		int sx = spriteX[i], sy = spriteY[i], w = spriteWidth[i], h = spriteHeight[i];
+		g.drawImage(atlas, x, y, x + w, y + h, sx, sy, sx + w, sy + h, null);
+	}
+
+	public int getWidth(Obstacle o) {
+		return spriteWidth[o.ordinal()];
+	}
+
+	public int getHeight(Obstacle o) {
+		return spriteHeight[o.ordinal()];
+	}
+
+	public BufferedImage getImage() {
+		return atlas;
+	}
+}
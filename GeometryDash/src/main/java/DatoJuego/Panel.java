@@ -1,5 +1,6 @@
 package DatoJuego;
 
+import java.awt.AlphaComposite;
 import java.awt.Color;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
@@ -13,6 +14,17 @@ import java.util.ArrayList;
 public class Panel extends Drawable {
 
 	protected ArrayList<Drawable> drawables;
+	
+	/** The image this panel was last drawn into by {@link #getImage()}, reused until something in the panel changes. */
+	private BufferedImage cachedImage;
+	private int cachedWidth, cachedHeight;
+	private RenderQuality cachedQuality;
+	
+	/** Whether something in this panel has changed since {@link #cachedImage} was drawn. */
+	private volatile boolean dirty = true;
+	
+	/** Set to the position of each child before it is drawn, so drawing the panel does not create a transform for every child every frame. */
+	private final AffineTransform childTransform = new AffineTransform();
 		
 	public Panel(double x, double y, double width, double height) {
 		super(x, y, width, height);
@@ -61,6 +73,7 @@ public class Panel extends Drawable {
 	
 	/**
 	 * Draws all child components and Drawables to the screen.
+	 * Nothing is allocated while doing so: the children are visited by index and positioned with one reused transform (the graphics object copies it).
 	 * @param g The graphics object that is used to draw graphics to the screen.
 	 */
 	public void draw(Graphics g, int leftInset, int topInset, int rightInset, int bottomInset) {
@@ -70,28 +83,71 @@ public class Panel extends Drawable {
 			g2d.fillRect(leftInset, topInset, pixelWidth(), pixelHeight());
 		}
 	
-		for (Drawable d: drawables) {
+		for (int i = 0; i < drawables.size(); i++) {
+			Drawable d = drawables.get(i);
 			if (!d.isVisible()) {
 				continue;
 			}
 			if (d instanceof Panel) {
-				g2d.setTransform(new AffineTransform());
+				childTransform.setToIdentity();
+				g2d.setTransform(childTransform);
 		    	if (((Panel) d).fillsParent()) {
 		    		((Panel) d).draw(g2d);
 		    	} else {
 		    		g2d.drawImage(((Panel) d).getImage(), d.pixelX(leftInset), d.pixelY(topInset), d.pixelWidth(), d.pixelHeight(), null);
 		    	}
 		    } else {
-	    		g2d.setTransform(AffineTransform.getTranslateInstance(d.pixelX(leftInset), d.pixelY(topInset)));
+		    	childTransform.setToTranslation(d.pixelX(leftInset), d.pixelY(topInset));
+	    		g2d.setTransform(childTransform);
 	    		d.drawImage(g2d);
 		    }
 		}
 	}
 	
+	/**
+	 * Returns an image of this panel and everything in it, which its parent draws when this panel does not fill it.
+	 * The image is kept and only redrawn when something in the panel has changed (see {@link #invalidate()}), when its size or the render quality changes,
+	 * or on every call while a visible drawable inside it is dynamic. An unchanged panel is then a single drawImage for its parent.
+	 */
 	public BufferedImage getImage() {
-		BufferedImage i = Util.getEmptyImage(pixelWidth(), pixelHeight());
-		draw(i.createGraphics());
-		return i;
+		int width = pixelWidth(), height = pixelHeight();
+		RenderQuality quality = getRenderQuality();
+		if (cachedImage == null || cachedWidth != width || cachedHeight != height) {
+			cachedImage = Util.getEmptyImage(width, height);
+			cachedWidth = width;
+			cachedHeight = height;
+		} else if (!dirty && cachedQuality == quality && !hasDynamicContent()) {
+			return cachedImage;
+		}
+		
+		// Clear the flag before drawing, so a change made while drawing marks the panel dirty again
+		dirty = false;
+		cachedQuality = quality;
+		Graphics2D g = cachedImage.createGraphics();
+		g.setComposite(AlphaComposite.Clear);
+		g.fillRect(0, 0, cachedImage.getWidth(), cachedImage.getHeight());
+		g.setComposite(AlphaComposite.SrcOver);
+		draw(g);
+		g.dispose();
+		return cachedImage;
+	}
+	
+	/** Marks this panel as needing to be redrawn, along with the panels it is inside of. */
+	@Override
+	public void invalidate() {
+		dirty = true;
+		super.invalidate();
+	}
+	
+	/** Returns true if a visible drawable in this panel (or in a panel inside it) is redrawn every frame, so the image of this panel cannot be reused. */
+	private boolean hasDynamicContent() {
+		for (int i = 0; i < drawables.size(); i++) {
+			Drawable d = drawables.get(i);
+			if (d.isVisible() && (d instanceof Panel ? ((Panel) d).hasDynamicContent() : d.isDynamic())) {
+				return true;
+			}
+		}
+		return false;
 	}
 	
 	/** Called many times per second depending on the games current update FPS, to change it use the {@link Game#setUpdateFPS(double)} method.
@@ -112,6 +168,7 @@ public class Panel extends Drawable {
 			d.setParentPanel(this);
 		}
 		drawables.add(d);
+		invalidate();
 		return d;
 	}
 	
@@ -137,13 +194,14 @@ public class Panel extends Drawable {
 		}
 	}
 	
-	/** This method will be automatically called whenever the window is rescaled. If overriding this method, make sure to call super.onRescale() inside this method. */
+	/**
+	 * This method will be automatically called whenever the window is rescaled, on one of the threads of the {@link ImageRegenerator} while the game keeps running.
+	 * If overriding this method, make sure to call super.onRescale() inside this method.
+	 */
 	public void onRescale() {
-		// Set the panel of each drawable so they will regenerate their image
+		// Set the panel of each drawable so they will regenerate their image, all at the same time
 		generateImage();
-		for (Drawable d: drawables) {
-			d.setParentPanel(this);
-		}
+		ImageRegenerator.regenerateChildren(this);
 	}
 	
 	/** Pauses the game. */
@@ -21,9 +21,11 @@ public class PlayLevel extends Scene {
 	
 	private Level level; // The level that is currently being played
 	private LevelView levelView; // The LevelView object that is rendering the level
+	private Replay replay; // A replay to play instead of letting the user play, or null
+	private double replaySpeed = 1; // How many times faster than real time the replay is played
 	
 	private int attemptNumber = 1; // The current attempt number (incremented by 1 each time the player dies)
-	private DrawableOutlinedText attemptText; // The text object that shows the attempt number on the screen
+	private DrawableNumber attemptText; // The text object that shows the attempt number on the screen
 	private final double attemptTextStartX = 0.9; // The x coordinate that the attempt text will start at (as a fraction of the screen width)
 	
 	private DrawableOutlinedText helpText; // Help text that gives the player tips during the level
@@ -39,7 +41,7 @@ public class PlayLevel extends Scene {
 	private final double progressBarWidth = 0.3; // The width of the above progress bar
 	private final double progressBarHeight = 0.03; // The height of the above progress bar
 	
-	private DrawableOutlinedText percentageText; // Text that shows the player's progress during the level as a percentage
+	private DrawableNumber percentageText; // Text that shows the player's progress during the level as a percentage
 	
 	private final double buttonWidth = 0.1; // The width of the menu buttons in the pause menu and win screen
 	
@@ -75,28 +77,58 @@ public class PlayLevel extends Scene {
 		this.level = level; // Store the level object
 	}
 	
+	/** Method Name: PlayLevel()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Creates a new PlayLevel object that plays back a replay of the level instead of taking the user's input
+	 * @Parameters
+	 *      - Level level: The Level object storing the level that will be played
+	 *      - Replay replay: The replay to play
+	 *      - double speed: How many times faster than real time to play the replay
+	 * @Returns N/A
+	 * Data Type: PlayLevel, Level, Replay, double
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	public PlayLevel(Level level, Replay replay, double speed) {
+		this(level);
+		this.replay = replay;
+		replaySpeed = speed;
+	}
+	
 	/** Method Name: init()
 	 * @Author Colin Toft
 	 * @Date December 27th, 2019
-	 * @Modified December 30th, 2019, January 7th, 8th, 9th, 10th, 14th & 17th, 2020
-	 * @Description Overrides Scene.init() and loads the text, images and menus necessary for this Scene
+	 * @Modified December 30th, 2019, January 7th, 8th, 9th, 10th, 14th & 17th, 2020, October 17th, 2026
+	 * @Description Overrides Scene.init() and loads the text, images and menus necessary for this Scene, reporting its progress as it goes
 	 * @Parameters N/A
 	 * @Returns N/A
-	 * Data Type: Scene, LevelView, DrawableOutlinedText, DrawableProgressBar, DrawableRoundedRectangle, Sprite, Panel
+	 * Data Type: Scene, ShapeSprint, LevelView, DrawableOutlinedText, DrawableNumber, DrawableProgressBar, DrawableRoundedRectangle, Sprite, Panel
 	 * Dependencies: CGraphics library (by Colin)
 	 * Throws/Exceptions: N/A
 	 */
 	public void init() {
 		level.load(); // Load the level (puts the obstacles into a 2D array)
+		setLoadingProgress(0.15);
 		
 		// Create an add a new LevelView object to render the level
 		levelView = new LevelView(level);
+		ShapeSprint ss = (ShapeSprint) game;
+		levelView.setRenderScale(ss.levelRenderScale);
+		levelView.setMaxRenderHeight(ss.levelRenderHeight);
+		levelView.setUpscaleInterpolation(ss.levelUpscaleInterpolation);
+		if (replay != null) {
+			levelView.playReplay(replay, replaySpeed);
+		}
+		setLoadingProgress(0.4);
 		add(levelView);
+		setLoadingProgress(0.7);
 		
 		Font titleFont = Util.loadFontFromFile(getClass(), "Pusab.ttf", 100); // The font object used to draw text
 		
 		// Create and add the attempt counter
-		attemptText = new DrawableOutlinedText(attemptTextStartX, 0.25, "Attempt " + attemptNumber, titleFont, Color.white, Color.black, HorizontalAlign.CENTER, VerticalAlign.CENTER);
+		attemptText = new DrawableNumber(attemptTextStartX, 0.25, "Attempt ", attemptNumber, "", titleFont, Color.white, Color.black, 3f, HorizontalAlign.CENTER, VerticalAlign.CENTER);
 		attemptText.setMaxHeight(0.085);
 		add(attemptText);
 		
@@ -119,10 +151,12 @@ public class PlayLevel extends Scene {
 		add(pauseMenuHelpText);
 		
 		// Create and add the percentage text that tracks the user's progress during the level
-		percentageText = new DrawableOutlinedText(progressBar.getX() + progressBar.getWidth() + 0.005, progressBar.getCenterY(), "0%", titleFont.deriveFont(60f), Color.white, Color.black, 1f, HorizontalAlign.LEFT, VerticalAlign.CENTER);
+		percentageText = new DrawableNumber(progressBar.getX() + progressBar.getWidth() + 0.005, progressBar.getCenterY(), "", 0, "%", titleFont.deriveFont(60f), Color.white, Color.black, 1f, HorizontalAlign.LEFT, VerticalAlign.CENTER);
 		percentageText.setMaxHeight(progressBarHeight);
 		add(percentageText);
 		
+		setLoadingProgress(0.8);
+		
 		// Create and add the pause menu
 		pauseMenu = new Panel(0.03, 0.03, 0.94, 0.94);
 		DrawableRoundedRectangle rect = new DrawableRoundedRectangle(0, 0, 1, 1, 0.07, 0.125, new Color(0, 0, 0, 180)); // The rectangle which is the background of the pause menu
@@ -194,6 +228,7 @@ public class PlayLevel extends Scene {
 		
 		add(pauseMenu);
 		pauseMenu.hide();
+		setLoadingProgress(0.9);
 		
 		// Create and add the pause menu
 		winScreen = new Panel(0.03, 0.03, 0.94, 0.94);
@@ -202,7 +237,7 @@ public class PlayLevel extends Scene {
 		levelCompleteText.setMaxWidth(rect.getWidth() * 0.9);
 		attemptCountText = new DrawableOutlinedText(rect.getCenterX(), 0.4, "Attempts: " + attemptNumber, titleFont, Color.white, Color.black, HorizontalAlign.CENTER, VerticalAlign.CENTER); // Shows the number of attempts used
 		attemptCountText.setMaxWidth(rect.getWidth() * 0.7);
-		jumpCountText = new DrawableOutlinedText(rect.getCenterX(), 0.55, "Jumps: " + levelView.jumpCount, titleFont, Color.white, Color.black, HorizontalAlign.CENTER, VerticalAlign.CENTER); // Shows the number of attempts used
+		jumpCountText = new DrawableOutlinedText(rect.getCenterX(), 0.55, "Jumps: " + levelView.getJumpCount(), titleFont, Color.white, Color.black, HorizontalAlign.CENTER, VerticalAlign.CENTER); // Shows the number of attempts used
 		jumpCountText.setMaxWidth(rect.getWidth() * 0.7);
 		
 		// A button that closes the win screen and restarts the level from the beginning
@@ -211,7 +246,6 @@ public class PlayLevel extends Scene {
 			public void onMouseReleased(double x, double y, int button) {
 				attemptNumber = 0;
 				levelView.restartLevel();
-				levelView.hasBeatLevel = false;
 				winScreen.hide();
 				resumeGame();
 			}
@@ -231,12 +265,12 @@ public class PlayLevel extends Scene {
 	/** Method Name: update()
 	 * @Author Colin Toft
 	 * @Date January 7th, 2020
-	 * @Modified January 8th & 16th, 2020
+	 * @Modified January 8th & 16th, 2020, October 17th, 2026
 	 * @Description Overrides Scene.update() and updates the level progress bar, attempt counter, and help text
 	 * @Parameters
 	 *      - double dt: The time that has elapsed since the last time update() was called
 	 * @Returns N/A
-	 * Data Type: Scene, LevelView, ShapeSprint, DrawableOutlinedText, DrawableProgressBar
+	 * Data Type: Scene, LevelView, ShapeSprint, DrawableOutlinedText, DrawableNumber, DrawableProgressBar
 	 * Dependencies: CGraphics library (by Colin)
 	 * Throws/Exceptions: N/A
 	 */
@@ -246,12 +280,12 @@ public class PlayLevel extends Scene {
 		attemptText.moveLeft(dt * levelView.getScrollSpeed()); // Move the attempt text to the left along with the level
 		// Update the progress bar and percentage text to reflect the user's progress in the level
 		progressBar.setValue(levelView.getPlayerProgress());
-		percentageText.setText(Util.toPercentageString(levelView.getPlayerProgress()));
+		percentageText.setValue((int) Math.floor(levelView.getPlayerProgress() * 100)); // Rounded down, as in Util.toPercentageString()
 		
 		ShapeSprint ss = (ShapeSprint) game;
 
 		// Hide the help text if it is no longer necessary
-		if (levelView.jumpCount > 0 && helpText.getText().equals(jumpHelpMessage) || ss.hasUsedTriangleMode && helpText.getText().equals(triangleHelpMessage)) {
+		if (levelView.getJumpCount() > 0 && helpText.getText().equals(jumpHelpMessage) || ss.hasUsedTriangleMode && helpText.getText().equals(triangleHelpMessage)) {
 			needsJumpHelp = false;
 			helpText.hide();
 		}
@@ -280,7 +314,7 @@ public class PlayLevel extends Scene {
 	/** Method Name: keyPressed()
 	 * @Author Colin Toft
 	 * @Date December 30th, 2019
-	 * @Modified January 8th, 14th & 19th, 2020
+	 * @Modified January 8th, 14th & 19th, 2020, October 17th, 2026
 	 * @Description Overrides Scene.keyPressed() and handles key presses while playing a level, mainly showing/hiding the pause menu and win screen
 	 * @Parameters
 	 *      - KeyEvent e: the event containing data about the key press event
@@ -296,7 +330,7 @@ public class PlayLevel extends Scene {
 			if (winScreen.isVisible()) {
 				// If the win screen is showing, exit to the menu
 				exitToMenu();
-			} else if (!levelView.hasBeatLevel) {
+			} else if (!levelView.hasBeatLevel()) {
 				// Toggle the pause menu
 				togglePaused();
 				if (isPaused()) {
@@ -327,7 +361,6 @@ public class PlayLevel extends Scene {
 				// If the user presses enter on the win screen, restart the level from the beginning
 				attemptNumber = 0;
 				levelView.restartLevel();
-				levelView.hasBeatLevel = false;
 				winScreen.hide();
 				resumeGame();
 			}
@@ -337,22 +370,22 @@ public class PlayLevel extends Scene {
 	/** Method Name: restartLevel()
 	 * @Author Colin Toft
 	 * @Date January 7th, 2020
-	 * @Modified January 8th & 9th, 2020
+	 * @Modified January 8th & 9th, 2020, October 17th, 2026
 	 * @Description Resets the position of the components when the player restarts the level
 	 * @Parameters N/A
 	 * @Returns N/A
-	 * Data Type: DrawableOutlinedText, DrawableProgressBar
+	 * Data Type: DrawableOutlinedText, DrawableNumber, DrawableProgressBar
 	 * Dependencies: CGraphics library (by Colin)
 	 * Throws/Exceptions: N/A
 	 */
 	public void restartLevel() {
 		// Increase the attempt number by 1 and reposition the attempt text
 		attemptNumber++;
-		attemptText.setText("Attempt " + attemptNumber);
+		attemptText.setValue(attemptNumber);
 		attemptText.setX(attemptTextStartX);
 		
 		// If the user has died twice without jumping, display the jump help message
-		if (attemptNumber > 2 && levelView.jumpCount == 0) {
+		if (attemptNumber > 2 && levelView.getJumpCount() == 0) {
 			helpText.setText(jumpHelpMessage);
 			helpText.show();
 		}
@@ -389,7 +422,7 @@ public class PlayLevel extends Scene {
 	/** Method Name: saveLevelProgress()
 	 * @Author Colin Toft
 	 * @Date January 10th, 2020
-	 * @Modified January 21st, 2020
+	 * @Modified January 21st, 2020, October 17th, 2026
 	 * @Description Stores the current progress in the level to the Level object
 	 * @Parameters N/A
 	 * @Returns N/A
@@ -405,7 +438,7 @@ public class PlayLevel extends Scene {
 			level.updateNormalProgress(levelView.getPlayerProgress());
 		}
 		
-		if (levelView.jumpCount > 0) {
+		if (levelView.getJumpCount() > 0) {
 			((ShapeSprint) game).firstTime = false;
 		}
 	}
@@ -443,7 +476,7 @@ public class PlayLevel extends Scene {
 	/** Method Name: showWinScreen()
 	 * @Author Colin Toft
 	 * @Date January 14th, 2020
-	 * @Modified January 19th, 2020
+	 * @Modified January 19th, 2020, October 17th, 2026
 	 * @Description Shows the win screen (when the user successfully completes a level)
 	 * @Parameters N/A
 	 * @Returns N/A
@@ -460,7 +493,7 @@ public class PlayLevel extends Scene {
 		}
 		// Refresh the attempt count and jump count
 		attemptCountText.setText("Attempts: " + attemptNumber);
-		jumpCountText.setText("Jumps: " + levelView.jumpCount);
+		jumpCountText.setText("Jumps: " + levelView.getJumpCount());
 		// After the text has been updated, show the win screen
 		winScreen.show();
 	}
@@ -0,0 +1,122 @@
+package DatoJuego;
+
+
+
+/**
+ * Watches how long frames take to draw and adjusts the game's {@link RenderQuality} to keep them inside the frame budget.
+ * Every half second it looks at the frames drawn since the last check: if more than a few went over budget it steps the quality down,
+ * and after a run of checks with plenty of headroom it steps back up. A step up that immediately has to be undone doubles the
+ * headroom needed before the next one, so the quality settles instead of bouncing between two levels.
+ * Frames should only be recorded from one thread (the one drawing the game).
+ */
+public class QualityGovernor {
+
+	/** How often (in nanoseconds) the recorded frames are checked. */
+	private static final long windowLength = 500000000L;
+
+	/** The fraction of the frame budget that drawing may use, leaving the rest for updating and showing the frame. */
+	private static final double drawShare = 0.8;
+
+	/** The fraction of frames in a window that may go over budget before the quality is lowered. */
+	private static final double slowFrameLimit = 0.1;
+
+	/** A window counts as having headroom if its average frame took less than this fraction of the budget. */
+	private static final double headroom = 0.5;
+
+	private static final int minGoodWindows = 4, maxGoodWindows = 64;
+
+	private volatile RenderQuality quality = RenderQuality.HIGH;
+	private volatile boolean enabled = true;
+	private volatile long targetFrameTime = 1000000000L / 60;
+
+	private long windowStart = System.nanoTime();
+	private int frames = 0, slowFrames = 0;
+	private long totalTime = 0;
+	private int goodWindows = 0;
+	private int requiredGoodWindows = minGoodWindows;
+	private boolean justRaised = false;
+	private boolean skipWindow = false;
+
+	/**
+	 * Records how long a frame took to draw, and changes the quality if a check is due.
+	 * @param start The System.nanoTime() when drawing started
+	 * @param end The System.nanoTime() when drawing ended
+	 */
+	public void record(long start, long end) {
+		long budget = (long) (targetFrameTime * drawShare);
+		frames++;
+		totalTime += end - start;
+		if (end - start > budget) {
+			slowFrames++;
+		}
+
+		if (end - windowStart < windowLength) {
+			return;
+		}
+
+		if (skipWindow) {
+			// The first window after a change includes regenerating images at the new quality, which says nothing about how fast it draws
+			skipWindow = false;
+		} else if (enabled) {
+			if (slowFrames > frames * slowFrameLimit) {
+				if (justRaised) {
+					requiredGoodWindows = Math.min(requiredGoodWindows * 2, maxGoodWindows); // The last step up did not fit, so wait longer before trying again
+				}
+				goodWindows = 0;
+				changeQuality(quality.lower());
+			} else if (totalTime < frames * budget * headroom) {
+				justRaised = false;
+				if (++goodWindows >= requiredGoodWindows && quality != RenderQuality.HIGH) {
+					goodWindows = 0;
+					changeQuality(quality.higher());
+					justRaised = true;
+				}
+			} else {
+				justRaised = false;
+				goodWindows = 0;
+			}
+		}
+
+		windowStart = end;
+		frames = 0;
+		slowFrames = 0;
+		totalTime = 0;
+	}
+
+	private void changeQuality(RenderQuality newQuality) {
+		if (newQuality != quality) {
+			quality = newQuality;
+			skipWindow = true;
+		}
+	}
+
+	/** Returns the quality that the game should currently draw at. */
+	public RenderQuality getQuality() {
+		return quality;
+	}
+
+	/** Sets the quality to draw at. If the governor is enabled it will keep adjusting it from there. */
+	public void setQuality(RenderQuality quality) {
+		this.quality = quality;
+		requiredGoodWindows = minGoodWindows;
+		goodWindows = 0;
+	}
+
+	/** Turns automatic adjustment on or off. While off, the quality stays at whatever it was last set to. */
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/** Sets the frame rate that the governor tries to hold. Defaults to 60. */
+	public void setTargetFrameRate(double fps) {
+		targetFrameTime = (long) (1000000000L / fps);
+	}
+
+	public double getTargetFrameRate() {
+		return 1000000000.0 / targetFrameTime;
+	}
+}
@@ -0,0 +1,53 @@
+package DatoJuego;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+
+
+
+/**
+ * The quality levels that the game can draw at, from best looking to cheapest. Each level lowers one or more of the settings below.
+ * The current level is chosen by the game's {@link QualityGovernor}, and drawables read it with {@link Drawable#getRenderQuality()}.
+ */
+public enum RenderQuality {
+	HIGH(1, true, true, true),
+	MEDIUM(1, false, true, true),
+	LOW(0.75, false, false, true),
+	LOWEST(0.5, false, false, false);
+
+	/** The fraction of the window's resolution that the level is drawn at before being stretched to fill it. */
+	public final double renderScale;
+
+	/** Whether rotated and stretched images are smoothed with bilinear interpolation, instead of picking the nearest pixel. */
+	public final boolean bilinear;
+
+	/** Whether shapes and text are antialiased. */
+	public final boolean antialiasing;
+
+	/** Whether the textured background is drawn behind the level, instead of a flat colour. */
+	public final boolean backgroundDetail;
+
+	private RenderQuality(double renderScale, boolean bilinear, boolean antialiasing, boolean backgroundDetail) {
+		this.renderScale = renderScale;
+		this.bilinear = bilinear;
+		this.antialiasing = antialiasing;
+		this.backgroundDetail = backgroundDetail;
+	}
+
+	/** Sets the antialiasing, rendering and interpolation hints of a graphics object to match this quality. */
+	public void applyHints(Graphics2D g) {
+		g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, antialiasing ? RenderingHints.VALUE_ANTIALIAS_ON : RenderingHints.VALUE_ANTIALIAS_OFF);
+		g.setRenderingHint(RenderingHints.KEY_RENDERING, antialiasing ? RenderingHints.VALUE_RENDER_QUALITY : RenderingHints.VALUE_RENDER_SPEED);
+		g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, bilinear ? RenderingHints.VALUE_INTERPOLATION_BILINEAR : RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+	}
+
+	/** Returns the next cheaper quality, or this one if it is already the cheapest. */
+	public RenderQuality lower() {
+		return this == LOWEST ? this : values()[ordinal() + 1];
+	}
+
+	/** Returns the next better looking quality, or this one if it is already the best. */
+	public RenderQuality higher() {
+		return this == HIGH ? this : values()[ordinal() - 1];
+	}
+}
@@ -0,0 +1,230 @@
+package DatoJuego;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+
+
+/**
+***********************************************
+@Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+@Date October 17th, 2026
+@Modified N/A
+@Description A recording of everything the player did while playing a level in deterministic mode: the ticks where they pressed and released the jump button,
+restarted the level or switched between normal and practice mode. Since the simulation is deterministic, these events are enough to play the whole session back exactly.
+In a file each event is stored as a variable-length number holding the ticks since the previous event and the type of event, so most events take one or two bytes.
+***********************************************
+*/
+public class Replay {
+
+	public static final int JUMP_PRESS = 0, JUMP_RELEASE = 1, RESTART = 2, CHANGE_MODE = 3; // The types of events that can be recorded
+	private static final int eventBits = 2; // The number of bits used to store the type of an event in a file
+
+	private static final int magicNumber = 0x53535250; // "SSRP", written at the start of every replay file
+	private static final int version = 1; // The version of the file format
+
+	private String levelFile; // The filename of the level that was played
+	private double musicOffset; // The music offset of the level that was played (it affects where the player starts)
+	private int ticksPerSecond; // The tick rate of the simulation that was recorded
+	private long length = 0; // The number of ticks that were simulated in total
+
+	private long[] eventTicks = new long[64]; // The tick that each event happened before
+	private byte[] eventTypes = new byte[64]; // The type of each event
+	private int eventCount = 0; // The number of events recorded
+
+	/** Method Name: Replay()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Creates a new empty replay of a level, recorded at the simulation's tick rate
+	 * @Parameters
+	 *      - Level level: the level that is being recorded
+	 * @Returns N/A
+	 * Data Type: Level
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	public Replay(Level level) {
+		this(level.filename, level.musicOffset, LevelSimulation.ticksPerSecond);
+	}
+
+	private Replay(String levelFile, double musicOffset, int ticksPerSecond) {
+		this.levelFile = levelFile;
+		this.musicOffset = musicOffset;
+		this.ticksPerSecond = ticksPerSecond;
+	}
+
+	/** Method Name: add()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Records an event that happened right before the given tick was simulated
+	 * @Parameters
+	 *      - long tick: the number of ticks that had been simulated when the event happened (must not be smaller than the tick of the previous event)
+	 *      - int type: the type of event (JUMP_PRESS, JUMP_RELEASE, RESTART or CHANGE_MODE)
+	 * @Returns N/A
+	 * Data Type: long, int, byte
+	 * Dependencies: N/A
+	 * Throws/Exceptions: IllegalArgumentException if the event is out of order or of an unknown type
+	 */
+	public void add(long tick, int type) {
+		if (type < 0 || type >= 1 << eventBits) {
+			throw new IllegalArgumentException("Unknown replay event type: " + type);
+		}
+		if (eventCount > 0 && tick < eventTicks[eventCount - 1]) {
+			throw new IllegalArgumentException("Replay events must be added in order");
+		}
+		if (eventCount == eventTicks.length) {
+			eventTicks = Arrays.copyOf(eventTicks, eventCount * 2);
+			eventTypes = Arrays.copyOf(eventTypes, eventCount * 2);
+		}
+		eventTicks[eventCount] = tick;
+		eventTypes[eventCount] = (byte) type;
+		eventCount++;
+		length = Math.max(length, tick);
+	}
+
+	/** Method Name: setLength()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Sets how many ticks the recording lasts, so that a replay continues after the last event
+	 * @Parameters
+	 *      - long length: the number of ticks that were simulated
+	 * @Returns N/A
+	 * Data Type: long
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	public void setLength(long length) {
+		this.length = Math.max(length, eventCount > 0 ? eventTicks[eventCount - 1] : 0);
+	}
+
+	public long getLength() {
+		return length;
+	}
+
+	public int getEventCount() {
+		return eventCount;
+	}
+
+	public long getEventTick(int index) {
+		return eventTicks[index];
+	}
+
+	public int getEventType(int index) {
+		return eventTypes[index];
+	}
+
+	public String getLevelFile() {
+		return levelFile;
+	}
+
+	public double getMusicOffset() {
+		return musicOffset;
+	}
+
+	public int getTicksPerSecond() {
+		return ticksPerSecond;
+	}
+
+	/** Method Name: save()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Writes the replay to a binary file, creating its folder if necessary
+	 * @Parameters
+	 *      - File file: the file to write to
+	 * @Returns N/A
+	 * Data Type: File, DataOutputStream, long, int
+	 * Dependencies: N/A
+	 * Throws/Exceptions: IOException if the file could not be written
+	 */
+	public void save(File file) throws IOException {
+		if (file.getParentFile() != null) {
+			file.getParentFile().mkdirs();
+		}
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+			out.writeInt(magicNumber);
+			out.writeByte(version);
+			out.writeUTF(levelFile);
+			out.writeDouble(musicOffset);
+			writeVarLong(out, ticksPerSecond);
+			writeVarLong(out, length);
+			writeVarLong(out, eventCount);
+
+			// Store each event as the ticks since the previous event, with the type in the lowest bits
+			long previousTick = 0;
+			for (int i = 0; i < eventCount; i++) {
+				writeVarLong(out, (eventTicks[i] - previousTick) << eventBits | eventTypes[i]);
+				previousTick = eventTicks[i];
+			}
+		}
+	}
+
+	/** Method Name: load()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Reads a replay from a binary file written by save()
+	 * @Parameters
+	 *      - File file: the file to read from
+	 * @Returns The replay stored in the file
+	 * Data Type: File, DataInputStream, Replay, long, int
+	 * Dependencies: N/A
+	 * Throws/Exceptions: IOException if the file could not be read or is not a replay
+	 */
+	public static Replay load(File file) throws IOException {
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			if (in.readInt() != magicNumber) {
+				throw new IOException(file + " is not a replay file");
+			}
+			int fileVersion = in.readUnsignedByte();
+			if (fileVersion != version) {
+				throw new IOException("Unsupported replay version " + fileVersion + " in " + file);
+			}
+
+			Replay replay = new Replay(in.readUTF(), in.readDouble(), (int) readVarLong(in));
+			long length = readVarLong(in);
+			long count = readVarLong(in);
+
+			long tick = 0;
+			for (long i = 0; i < count; i++) {
+				long value = readVarLong(in);
+				tick += value >>> eventBits;
+				replay.add(tick, (int) (value & ((1 << eventBits) - 1)));
+			}
+			replay.setLength(length);
+			return replay;
+		}
+	}
+
+	/** Writes a non-negative number using 7 bits per byte, with the highest bit set on every byte except the last. */
+	private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+		while ((value & ~0x7FL) != 0) {
+			out.writeByte((int) (value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		out.writeByte((int) value);
+	}
+
+	/** Reads a number written by writeVarLong(). */
+	private static long readVarLong(DataInputStream in) throws IOException {
+		long value = 0;
+		for (int shift = 0; shift < 64; shift += 7) {
+			int b = in.readUnsignedByte();
+			value |= (long) (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return value;
+			}
+		}
+		throw new IOException("Malformed number in replay file");
+	}
+}
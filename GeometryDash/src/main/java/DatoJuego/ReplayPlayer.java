@@ -0,0 +1,178 @@
+package DatoJuego;
+
+import java.awt.Color;
+import java.io.File;
+import java.io.IOException;
+
+
+
+/**
+***********************************************
+@Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+@Date October 17th, 2026
+@Modified N/A
+@Description Plays a Replay back by feeding its events into a LevelSimulation at the ticks they were recorded at. Playback is not tied to real time,
+so a replay can be run headless as fast as the computer allows, or drawn by a LevelView at any speed.
+Running this class directly plays every replay file given as an argument without a window and prints how each one ended, for checking physics changes in bulk.
+***********************************************
+*/
+public class ReplayPlayer {
+
+	private Replay replay; // The replay being played
+	private LevelSimulation simulation; // The simulation the replay is fed into
+	private long tick = 0; // The number of ticks played so far
+	private int nextEvent = 0; // The index of the next event in the replay to apply
+
+	/** Method Name: ReplayPlayer()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Creates a player for a replay
+	 * @Parameters
+	 *      - Replay replay: the replay to play
+	 *      - LevelSimulation simulation: a newly created simulation of the replay's level that has not been stepped yet
+	 * @Returns N/A
+	 * Data Type: Replay, LevelSimulation
+	 * Dependencies: N/A
+	 * Throws/Exceptions: IllegalArgumentException if the replay was recorded at a different tick rate
+	 */
+	public ReplayPlayer(Replay replay, LevelSimulation simulation) {
+		if (replay.getTicksPerSecond() != LevelSimulation.ticksPerSecond) {
+			throw new IllegalArgumentException("Replay was recorded at " + replay.getTicksPerSecond() + " ticks per second, but the simulation runs at " + LevelSimulation.ticksPerSecond);
+		}
+		this.replay = replay;
+		this.simulation = simulation;
+	}
+
+	/** Method Name: advance()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Plays the given number of ticks of the replay, or less if the replay ends first
+	 * @Parameters
+	 *      - long ticks: the number of ticks to play
+	 * @Returns The number of ticks that were played
+	 * Data Type: long, int, LevelSimulation
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	public long advance(long ticks) {
+		long played = 0;
+		while (played < ticks && !isFinished()) {
+			// Apply every event that happened before this tick, in the order they were recorded
+			while (nextEvent < replay.getEventCount() && replay.getEventTick(nextEvent) == tick) {
+				apply(simulation, replay.getEventType(nextEvent));
+				nextEvent++;
+			}
+			simulation.step();
+			tick++;
+			played++;
+		}
+		return played;
+	}
+
+	/** Method Name: playToEnd()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Plays the rest of the replay as fast as possible
+	 * @Parameters N/A
+	 * @Returns N/A
+	 * Data Type: long
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	public void playToEnd() {
+		advance(Long.MAX_VALUE);
+	}
+
+	public boolean isFinished() {
+		return tick >= replay.getLength();
+	}
+
+	public long getTick() {
+		return tick;
+	}
+
+	public LevelSimulation getSimulation() {
+		return simulation;
+	}
+
+	/** Method Name: apply()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Applies a replay event to a simulation, in the same way whether it comes from the player or from a recording
+	 * @Parameters
+	 *      - LevelSimulation simulation: the simulation to apply the event to
+	 *      - int type: the type of event (one of the Replay event types)
+	 * @Returns N/A
+	 * Data Type: int, LevelSimulation
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	public static void apply(LevelSimulation simulation, int type) {
+		switch (type) {
+			case Replay.JUMP_PRESS:
+				simulation.setJumping(true);
+				break;
+			case Replay.JUMP_RELEASE:
+				simulation.setJumping(false);
+				break;
+			case Replay.RESTART:
+				simulation.restartLevel();
+				break;
+			case Replay.CHANGE_MODE:
+				simulation.changeMode();
+				break;
+		}
+	}
+
+	/** Method Name: main()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Plays each replay file given as an argument without a window, and prints the number of deaths, the final progress and whether the level was beaten
+	 * @Parameters
+	 *      - String[] args: the paths of the replay files to play
+	 * @Returns N/A
+	 * Data Type: String, Replay, Level, LevelSimulation, SimulationListener
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	public static void main(String[] args) {
+		System.setProperty("java.awt.headless", "true");
+
+		for (String path: args) {
+			try {
+				Replay replay = Replay.load(new File(path));
+				Level level = new Level(replay.getLevelFile(), Color.BLACK, replay.getLevelFile(), null, replay.getMusicOffset());
+				level.load();
+
+				final int[] deaths = {0};
+				final boolean[] beatLevel = {false};
+				LevelSimulation simulation = new LevelSimulation(level, new SimulationListener() {
+					@Override
+					public void onDeath() {
+						deaths[0]++;
+					}
+
+					@Override
+					public void onLevelComplete() {
+						beatLevel[0] = true;
+					}
+				});
+
+				long start = System.nanoTime();
+				ReplayPlayer player = new ReplayPlayer(replay, simulation);
+				player.playToEnd();
+				long time = System.nanoTime() - start;
+
+				System.out.println(path + ": " + player.getTick() + " ticks, " + deaths[0] + " deaths, progress " + Util.toPercentageString(simulation.getPlayerProgress())
+						+ (beatLevel[0] ? ", level beaten" : "") + " (" + time / 1000000 + " ms)");
+			} catch (IOException e) {
+				System.out.println(path + ": " + e.getMessage());
+			}
+		}
+	}
+}
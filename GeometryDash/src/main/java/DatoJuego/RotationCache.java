@@ -0,0 +1,78 @@
+package DatoJuego;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+
+
+
+/**
+ * A set of copies of an image rotated to evenly spaced angles, made once so that a spinning sprite can be drawn every frame
+ * by picking the closest copy instead of rotating the image again. Every copy is a square big enough to hold the image at any angle,
+ * centred on the centre of the image, so the rotated image is drawn at {@link #getOffsetX()} and {@link #getOffsetY()} from where the unrotated one would be.
+ */
+public class RotationCache {
+
+	/** The most copies that are made of one image. */
+	public static final int maxSteps = 128;
+
+	/** The fewest copies that are made of one image, even if they go over {@link #maxBytes}. */
+	public static final int minSteps = 32;
+
+	/** Roughly how much memory the copies of one image may use, which lowers the number of copies of very large images. */
+	public static final long maxBytes = 16L * 1024 * 1024;
+
+	private final BufferedImage[] frames;
+	private final int offsetX, offsetY;
+	private final boolean bilinear;
+
+	/**
+	 * Makes the rotated copies of an image.
+	 * @param image The image to rotate, which must not be changed afterwards
+	 * @param bilinear Whether to use bilinear filtering when rotating, rather than nearest neighbour
+	 */
+	public RotationCache(BufferedImage image, boolean bilinear) {
+		this.bilinear = bilinear;
+		int size = (int) Math.ceil(Math.hypot(image.getWidth(), image.getHeight()));
+		offsetX = (size - image.getWidth()) / 2;
+		offsetY = (size - image.getHeight()) / 2;
+
+		long frameBytes = 4L * size * size;
+		int steps = (int) Math.max(minSteps, Math.min(maxSteps, maxBytes / Math.max(frameBytes, 1)));
+		frames = new BufferedImage[steps];
+		for (int i = 0; i < steps; i++) {
+			frames[i] = Util.getEmptyImage(size, size, false);
+			Graphics2D g = frames[i].createGraphics();
+			g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, bilinear ? RenderingHints.VALUE_INTERPOLATION_BILINEAR : RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+			g.rotate(2 * Math.PI * i / steps, size / 2.0, size / 2.0);
+			g.drawImage(image, offsetX, offsetY, null);
+			g.dispose();
+		}
+	}
+
+	/** Returns the copy of the image that is rotated closest to the given angle (in radians, clockwise). */
+	public BufferedImage get(double angle) {
+		int step = (int) Math.floor(angle / (2 * Math.PI) * frames.length + 0.5);
+		return frames[Math.floorMod(step, frames.length)];
+	}
+
+	/** Returns how far left of the unrotated image each copy needs to be drawn, in pixels. */
+	public int getOffsetX() {
+		return offsetX;
+	}
+
+	/** Returns how far above the unrotated image each copy needs to be drawn, in pixels. */
+	public int getOffsetY() {
+		return offsetY;
+	}
+
+	/** Returns the number of copies, which are {@code 2 * PI / getSteps()} radians apart. */
+	public int getSteps() {
+		return frames.length;
+	}
+
+	/** Returns whether the copies were rotated with bilinear filtering. */
+	public boolean isBilinear() {
+		return bilinear;
+	}
+}
@@ -15,7 +15,29 @@ public class Scene extends Panel implements KeyListener, MouseListener, Componen
 	
 	protected Game game;
 	
-	protected int pixelWidth, pixelHeight;
+	/** Set by the thread that handles resizes, and read while drawing and regenerating images. */
+	protected volatile int pixelWidth, pixelHeight;
+	
+	/** The window's insets, kept here because asking the window for them creates a new Insets object each time, and they are needed by every drawable every frame. */
+	private volatile int leftInset, topInset, rightInset, bottomInset;
+	
+	/** Redraws the images of the drawables in the background when the scene changes size. */
+	private final ImageRegenerator regenerator = new ImageRegenerator();
+	
+	/** How much of this scene has been loaded, from 0 to 1. Read by the game while the scene loads in the background. */
+	private volatile double loadingProgress = 0;
+	
+	/** Whether {@link #init()} has returned. Until then the drawables are still being added (at the scene's current size), so they are not regenerated. */
+	private volatile boolean loaded = false;
+	
+	/** Set when the scene changes size, so a resize while the scene loads is caught up on once it has loaded. */
+	private volatile boolean resized = false;
+	
+	/** The System.nanoTime() that the mouse event currently being handled happened at. Only used on the event dispatch thread. */
+	private long eventTime = 0;
+	
+	/** Whether the game's window sends its key and mouse events to this scene. Only true once the scene is being shown. */
+	private boolean receivingInput = false;
 	
 	public Scene() {
 		super();
@@ -23,14 +45,54 @@ public class Scene extends Panel implements KeyListener, MouseListener, Componen
 	}
 	
 	/**
-	 * Sets the game that this Scene is being displayed to.
+	 * Sets the game that this Scene will be displayed to. The scene does not receive input until {@link #startReceivingInput()} is called.
 	 * @author Colin Toft
 	 */
 	public void setGame(Game g) {
 		game = g;
+		updateInsets(g.getInsets());
+		pixelWidth = g.getWidth();
+		pixelHeight = g.getHeight(); // Nothing has been added yet, so there is nothing to regenerate
+	}
+	
+	/**
+	 * Registers this scene and the drawables added to it so far as listeners of the game's window. Called by the game when the scene is shown,
+	 * so that a scene loading in the background does not react to input meant for the scene still on screen. Drawables added afterwards are registered as they are added.
+	 */
+	public void startReceivingInput() {
+		receivingInput = true;
 		game.addKeyListener(this);
 		game.addMouseListener(this);
-		setDimensions(g.getWidth(), g.getHeight());
+		for (Drawable d: drawables) {
+			game.addMouseListener(d);
+			game.addKeyListener(d);
+		}
+	}
+	
+	/**
+	 * Reports how much of this scene has been loaded, so the game can show it while {@link #init()} runs in the background.
+	 * Scenes with a long init() should call this a few times as they go. The game sets it to 1 once init() returns.
+	 * @param progress The fraction of the scene that has been loaded, from 0 to 1
+	 */
+	public void setLoadingProgress(double progress) {
+		loadingProgress = Util.constrain(progress, 0, 1);
+	}
+	
+	/**
+	 * Called by the game on the loading thread once {@link #init()} has returned. Sets the loading progress to 1, and regenerates the images of the drawables
+	 * if the scene changed size while it was loading, since the drawables added before the resize were made at the old size.
+	 */
+	public void finishLoading() {
+		loadingProgress = 1;
+		loaded = true;
+		if (resized) {
+			regenerator.regenerate(this);
+		}
+	}
+	
+	/** Returns how much of this scene has been loaded, from 0 to 1. */
+	public double getLoadingProgress() {
+		return loadingProgress;
 	}
 	
 	@Override
@@ -49,19 +111,31 @@ public class Scene extends Panel implements KeyListener, MouseListener, Componen
 	 */
 	@Override
 	public Drawable add(Drawable d) {
-		game.addMouseListener(d);
-		game.addKeyListener(d);
+		if (receivingInput) {
+			game.addMouseListener(d);
+			game.addKeyListener(d);
+		}
 		if (game != null) {
 			d.setParentPanel(this);
 		}
 		return super.add(d);
 	}
 	
+	/**
+	 * Unregisters this scene and its drawables as listeners of the game's window, undoing {@link #startReceivingInput()}, so a closed scene no longer reacts to input,
+	 * then releases the images of everything in it. The scene must not be drawn again afterwards.
+	 */
 	@Override
 	public void dispose() {
+		receivingInput = false;
 		game.removeComponentListener(this);
 		game.removeKeyListener(this);
 		game.removeMouseListener(this);
+		for (Drawable d: drawables) {
+			game.removeMouseListener(d);
+			game.removeKeyListener(d);
+		}
+		super.dispose();
 	}
 	
 	/**
@@ -105,33 +179,60 @@ public class Scene extends Panel implements KeyListener, MouseListener, Componen
 		setDimensions(game.getWidth(), game.getHeight());
 	}
 	
+	/**
+	 * Changes the size of the scene in pixels, and regenerates the images of its drawables at the new size on an {@link ImageRegenerator} without stopping the game.
+	 * @author Colin Toft
+	 */
 	public void setDimensions(int width, int height) {
-		if (pixelWidth != width || pixelHeight != height) {
-			game.setResizingScene(true);
-			while (game.isDrawing() || game.isUpdating()) ;
-			
+		boolean insetsChanged = updateInsets(game.getInsets());
+		if (pixelWidth != width || pixelHeight != height || insetsChanged) {
 			pixelWidth = width;
 			pixelHeight = height;
-			for (Drawable d: drawables) {
-				if (d instanceof Panel) {
-					((Panel) d).onRescale();
-				} else {
-					d.setParentPanel(this);
-				}
+			
+			// Redraw every image at the new size in the background. The game keeps running meanwhile, drawing each old image stretched to the new size until its replacement is ready.
+			// While init() is still adding drawables this waits for finishLoading(), so a drawable is never regenerated while it is being added
+			resized = true;
+			if (loaded) {
+				regenerator.regenerate(this);
+			}
+			if (game.getScene() == this) {
+				game.setPreferredSize(new Dimension(pixelWidth, pixelHeight));
 			}
-			game.setPreferredSize(new Dimension(pixelWidth, pixelHeight));
-			game.setResizingScene(false);
 		}
 	}
 	
+	/**
+	 * Stores the window's insets if they have changed.
+	 * @return Whether they changed
+	 */
+	private boolean updateInsets(Insets insets) {
+		if (insets.left == leftInset && insets.top == topInset && insets.right == rightInset && insets.bottom == bottomInset) {
+			return false;
+		}
+		leftInset = insets.left;
+		topInset = insets.top;
+		rightInset = insets.right;
+		bottomInset = insets.bottom;
+		return true;
+	}
+	
+	/** Draws the scene with the insets the game read for this frame, regenerating the images in the background if they have changed (such as when the window gains or loses its decorations). */
+	@Override
+	public void draw(Graphics g, Insets insets) {
+		if (updateInsets(insets)) {
+			regenerator.regenerate(this);
+		}
+		super.draw(g, insets);
+	}
+	
 	@Override
 	public int pixelWidth() {
-		return pixelWidth - game.leftInset() - game.rightInset();
+		return pixelWidth - leftInset - rightInset;
 	}
 	
 	@Override
 	public int pixelHeight() {
-		return pixelHeight - game.bottomInset() - game.topInset();
+		return pixelHeight - bottomInset - topInset;
 	}
 
 	@Override
@@ -148,14 +249,21 @@ public class Scene extends Panel implements KeyListener, MouseListener, Componen
 	@Override
 	public void mouseClicked(MouseEvent e) {}
 
+	/** Returns the {@link System#nanoTime()} that the mouse event currently being passed on by this scene happened at, so drawables can tell exactly when they were clicked. */
+	public long getEventTime() {
+		return eventTime;
+	}
+
 	@Override
 	public void mousePressed(MouseEvent e) {
-		onMousePressed((double)(e.getX() - game.leftInset()) / pixelWidth(), (double)(e.getY() - game.topInset()) / pixelHeight(), e.getButton());
+		eventTime = Util.toNanoTime(e.getWhen());
+		onMousePressed((double)(e.getX() - leftInset) / pixelWidth(), (double)(e.getY() - topInset) / pixelHeight(), e.getButton());
 	}
 
 	@Override
 	public void mouseReleased(MouseEvent e) {
-		onMouseReleased((double)(e.getX() - game.leftInset()) / pixelWidth(), (double)(e.getY() - game.topInset()) / pixelHeight(), e.getButton());
+		eventTime = Util.toNanoTime(e.getWhen());
+		onMouseReleased((double)(e.getX() - leftInset) / pixelWidth(), (double)(e.getY() - topInset) / pixelHeight(), e.getButton());
 	}
 
 	@Override
@@ -4,8 +4,10 @@ import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Font;
 import java.awt.Graphics;
+import java.awt.RenderingHints;
 import java.awt.Toolkit;
 import java.io.BufferedWriter;
+import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.InputStream;
@@ -37,12 +39,63 @@ public class ShapeSprint extends Game {
 	
 	public Font titleFont;
 	
+	public double levelRenderScale = 1; // The fraction of the window's size that levels are drawn at (from 0.5 to 1)
+	public int levelRenderHeight = 0; // The most pixels tall that levels are drawn at, or 0 for no limit
+	public Object levelUpscaleInterpolation = null; // How levels drawn below the window's size are smoothed, or null to follow the render quality
+	
 	public static void main(String[] args) {
 		// Run the game
 		game = new ShapeSprint();
+		
+		// Read the options for the resolution levels are drawn at, which come before any other arguments
+		int i = 0;
+		while (i + 1 < args.length && (args[i].startsWith("--render-") || args[i].equals("--upscale"))) {
+			if (args[i].equals("--render-scale")) {
+				game.levelRenderScale = Double.valueOf(args[i + 1]);
+			} else if (args[i].equals("--render-height")) {
+				game.levelRenderHeight = Integer.valueOf(args[i + 1]);
+			} else if (args[i].equals("--upscale")) {
+				game.levelUpscaleInterpolation = args[i + 1].equals("nearest") ? RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR : args[i + 1].equals("bicubic") ? RenderingHints.VALUE_INTERPOLATION_BICUBIC : RenderingHints.VALUE_INTERPOLATION_BILINEAR;
+			}
+			i += 2;
+		}
+		
+		if (args.length >= i + 2 && args[i].equals("--replay")) {
+			// Play a replay file instead of opening the main menu, optionally faster than real time
+			game.playReplay(new File(args[i + 1]), args.length >= i + 3 ? Double.valueOf(args[i + 2]) : 1);
+		}
 		game.run();
 	}
 	
+	/** Method Name: playReplay()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Loads a replay file and starts playing it back on its level
+	 * @Parameters
+	 *      - File file: the replay file to play
+	 *      - double speed: how many times faster than real time to play the replay
+	 * @Returns N/A
+	 * Data Type: File, Replay, Level, PlayLevel
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	public void playReplay(File file, double speed) {
+		try {
+			Replay replay = Replay.load(file);
+			for (Level level: levels) {
+				if (level.filename.equals(replay.getLevelFile())) {
+					setScene(new PlayLevel(level, replay, speed));
+					return;
+				}
+			}
+			System.out.println("The level " + replay.getLevelFile() + " in the replay was not found");
+		} catch (IOException e) {
+			System.out.println("Unable to load replay from file: ");
+			e.printStackTrace();
+		}
+	}
+	
 	/** Method Name: init()
 	 * @Author Colin Toft
 	 * @Date December 21st, 2019
@@ -74,6 +127,7 @@ public class ShapeSprint extends Game {
 		Dimension dim = Toolkit.getDefaultToolkit().getScreenSize();
 		setFrame("Shape Sprint", (int) dim.getWidth(), (int) dim.getHeight());
 		setFPS(400);
+		setThreadedRendering(Runtime.getRuntime().availableProcessors() > 1); // Draw on a separate thread when there is a spare core, so slow frames do not hold back the physics
 		if (!useFullScreen) {
 			setSize(640, 480);
 		}
@@ -153,8 +207,8 @@ public class ShapeSprint extends Game {
 	/** Method Name: drawLoadingScreen()
 	 * @Author Colin Toft
 	 * @Date January 21st, 2020
-	 * @Modified N/A
-	 * @Description Overrides Game.drawLoadingScreen(): shows a loading message
+	 * @Modified October 17th, 2026
+	 * @Description Overrides Game.drawLoadingScreen(): shows a loading message with the percentage of the scene that has been loaded
 	 * @Parameters N/A
 	 * @Returns N/A
 	 * Data Type: N/A
@@ -169,7 +223,7 @@ public class ShapeSprint extends Game {
 			Font n = titleFont.deriveFont(getHeight() / 10f);
 			g.setFont(n);
 		}
-		g.drawString("Loading...", 15, getHeight() / 10 * 9);
+		g.drawString("Loading... " + Util.toPercentageString(getLoadingProgress()), 15, getHeight() / 10 * 9);
 	}
 	
 	/** Method Name: isFirstTime()
@@ -0,0 +1,28 @@
+package DatoJuego;
+
+
+
+/**
+***********************************************
+@Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+@Date October 17th, 2026
+@Modified N/A
+@Description A source of input for a headless LevelSimulation, such as a bot or a scripted list of jumps. It is asked once per tick whether the jump button is held down.
+***********************************************
+*/
+public interface SimulationInput {
+
+	/** Method Name: isJumping()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Decides whether the jump button is held down during the next tick
+	 * @Parameters
+	 *      - LevelSimulation simulation: the simulation that is about to be stepped (its state and tick number can be read to decide)
+	 * @Returns True if the jump button should be held down, otherwise false
+	 * Data Type: LevelSimulation, boolean
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	boolean isJumping(LevelSimulation simulation);
+}
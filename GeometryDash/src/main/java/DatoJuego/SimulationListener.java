@@ -0,0 +1,134 @@
+package DatoJuego;
+
+
+
+/**
+***********************************************
+@Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+@Date October 17th, 2026
+@Modified N/A
+@Description Receives the events of a LevelSimulation (deaths, new attempts, music cues, completing the level) so that a view can play sounds and update the screen.
+All methods do nothing by default, so a headless simulation can run without a listener and a listener only needs to override the events it cares about.
+***********************************************
+*/
+public interface SimulationListener {
+
+	/** Method Name: onAttemptEnd()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Called right before the player is reset for a new attempt, while the simulation still holds the progress of the attempt that ended
+	 * @Parameters N/A
+	 * @Returns N/A
+	 * Data Type: N/A
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	default void onAttemptEnd() {}
+
+	/** Method Name: onAttemptStart()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Called after the player has been moved back to the start of the level or to a checkpoint
+	 * @Parameters N/A
+	 * @Returns N/A
+	 * Data Type: N/A
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	default void onAttemptStart() {}
+
+	/** Method Name: onDeath()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Called on the tick that the player is killed
+	 * @Parameters N/A
+	 * @Returns N/A
+	 * Data Type: N/A
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	default void onDeath() {}
+
+	/** Method Name: onLevelComplete()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Called on the tick that the player reaches the end of the level
+	 * @Parameters N/A
+	 * @Returns N/A
+	 * Data Type: N/A
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	default void onLevelComplete() {}
+
+	/** Method Name: onWinAnimationFinished()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Called on every tick after the level completion animation has finished, until the level is restarted
+	 * @Parameters N/A
+	 * @Returns N/A
+	 * Data Type: N/A
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	default void onWinAnimationFinished() {}
+
+	/** Method Name: onTriangleModeUsed()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Called the first time the player flies in triangle mode
+	 * @Parameters N/A
+	 * @Returns N/A
+	 * Data Type: N/A
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	default void onTriangleModeUsed() {}
+
+	/** Method Name: onMusicStart()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Called when the music should start from the beginning
+	 * @Parameters
+	 *      - boolean practiceMode: true if the practice mode music should play instead of the level music
+	 * @Returns N/A
+	 * Data Type: boolean
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	default void onMusicStart(boolean practiceMode) {}
+
+	/** Method Name: onMusicResume()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Called when the music should continue from where it was stopped
+	 * @Parameters
+	 *      - boolean practiceMode: true if the practice mode music should play instead of the level music
+	 * @Returns N/A
+	 * Data Type: boolean
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	default void onMusicResume(boolean practiceMode) {}
+
+	/** Method Name: onMusicStop()
+	 * @Author Gonzalo Gracia, Matias Giusti y Agustin Basualdo
+	 * @Date October 17th, 2026
+	 * @Modified N/A
+	 * @Description Called when all music and sounds should stop
+	 * @Parameters N/A
+	 * @Returns N/A
+	 * Data Type: N/A
+	 * Dependencies: N/A
+	 * Throws/Exceptions: N/A
+	 */
+	default void onMusicStop() {}
+}
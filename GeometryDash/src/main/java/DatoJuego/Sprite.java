@@ -17,7 +17,7 @@ public class Sprite extends Drawable {
 	}
 
 	@Override
-	public void generateImage() {
+	public synchronized void generateImage() {
 		setImage(spriteName);
 	}
 	
@@ -0,0 +1,48 @@
+package DatoJuego;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+
+/**
+ * A lock-free triple buffer that hands the newest state from one producer thread to one consumer thread.
+ * The producer fills {@link #getWriteBuffer()} and calls {@link #publish()}; the consumer calls {@link #getReadBuffer()} to get the
+ * most recently published buffer. Neither side ever waits for the other, and a buffer is never written while the consumer holds it.
+ */
+public class TripleBuffer<T> {
+
+	/** Set on the shared index when it holds a buffer that the consumer has not picked up yet. */
+	private static final int FRESH = 4;
+
+	private final Object[] buffers;
+
+	/** The index of the buffer shared between the two threads, plus the {@link #FRESH} bit. */
+	private final AtomicInteger shared = new AtomicInteger(2);
+
+	private int writeIndex = 0; // Only touched by the producer
+	private int readIndex = 1; // Only touched by the consumer
+
+	public TripleBuffer(T first, T second, T third) {
+		buffers = new Object[] {first, second, third};
+	}
+
+	/** Returns the buffer that the producer should fill before calling {@link #publish()}. */
+	@SuppressWarnings("unchecked")
+	public T getWriteBuffer() {
+		return (T) buffers[writeIndex];
+	}
+
+	/** Makes the write buffer available to the consumer and gives the producer a free buffer to write to next. */
+	public void publish() {
+		writeIndex = shared.getAndSet(writeIndex | FRESH) & ~FRESH;
+	}
+
+	/** Returns the most recently published buffer. It stays valid until the next call to this method. */
+	@SuppressWarnings("unchecked")
+	public T getReadBuffer() {
+		if ((shared.get() & FRESH) != 0) {
+			readIndex = shared.getAndSet(readIndex) & ~FRESH;
+		}
+		return (T) buffers[readIndex];
+	}
+}
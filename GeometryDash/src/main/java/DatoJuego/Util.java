@@ -102,16 +102,36 @@ public class Util {
 	/** Creates a new BufferedImage using the configuration that works best with the system the program is being run on.
 	 * This code was originally based on a StackOverflow post, but I am unable to locate the exact post.  */
 	public static BufferedImage getEmptyImage(int width, int height, boolean fixSides) {
+		if (GraphicsEnvironment.isHeadless()) {
+			// There is no screen to match when running without a display (in benchmarks or on a server), so use a plain translucent image
+			return new BufferedImage(fixSides ? width + 1 : width, fixSides ? height + 1 : height, BufferedImage.TYPE_INT_ARGB);
+		}
+		if (fixSides) {
+			return getGraphicsConfiguration().createCompatibleImage(width + 1, height + 1, Transparency.TRANSLUCENT);
+		} else {
+			return getGraphicsConfiguration().createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+		}
+	}
+	
+	/** Creates a new BufferedImage without transparency, which is faster to draw, using the configuration that works best with the system the program is being run on. */
+	public static BufferedImage getOpaqueImage(int width, int height) {
+		if (GraphicsEnvironment.isHeadless()) {
+			return new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		}
+		return getGraphicsConfiguration().createCompatibleImage(width, height, Transparency.OPAQUE);
+	}
+	
+	/** Returns the configuration of the default screen, or null when running without a display. */
+	public static GraphicsConfiguration getGraphicsConfiguration() {
+		if (GraphicsEnvironment.isHeadless()) {
+			return null;
+		}
 		if (config == null) {
 			env = GraphicsEnvironment.getLocalGraphicsEnvironment();
 		    device = env.getDefaultScreenDevice();
 		    config = device.getDefaultConfiguration();
 		}
-		if (fixSides) {
-			return config.createCompatibleImage(width + 1, height + 1, Transparency.TRANSLUCENT);
-		} else {
-			return config.createCompatibleImage(width, height, Transparency.TRANSLUCENT);
-		}
+		return config;
 	}
 	
 	/** Finds and returns the smallest double in a given array. */
@@ -136,6 +156,16 @@ public class Util {
 		return largest;
 	}
 	
+	/**
+	 * Converts the time of an input event ({@link java.awt.event.InputEvent#getWhen()}, in milliseconds since the epoch) to the {@link System#nanoTime()} clock
+	 * that the game loop uses. The result is never later than the current time.
+	 */
+	public static long toNanoTime(long when) {
+		long now = System.nanoTime();
+		long age = System.currentTimeMillis() - when;
+		return age > 0 ? now - age * 1000000 : now;
+	}
+	
 	public static String toPercentageString(double value) {
 		return (int) Math.floor(value * 100) + "%";
 	}
@@ -6,4 +6,5 @@
  */
 module shapesprint {
 	requires java.desktop;
+	requires jdk.jfr;
 }
\ No newline at end of file